@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.databinding.utils;
+
+import org.eclipse.wb.internal.core.utils.reflect.ClassMap;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of {@link PropertyDescriptor}'s of bean {@link Class}'s, shared by all bindings providers.
+ * <p>
+ * Descriptors are kept in {@link ClassMap}, so they are dropped when {@link ClassLoader} of the bean
+ * is deinitialized. Temporary {@link ClassLoader}'s, which are never deinitialized, should be
+ * released using {@link #clear(ClassLoader)}.
+ *
+ * @coverage bindings.utils
+ */
+public final class BeanIntrospectionCache {
+	private static final ClassMap<List<PropertyDescriptor>> m_descriptors = ClassMap.create();
+	private static final ClassMap<List<PropertyDescriptor>> m_sortedDescriptors =
+			ClassMap.create();
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private BeanIntrospectionCache() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the unmodifiable {@link List} of {@link PropertyDescriptor}'s with known type for given
+	 *         bean {@link Class}. For interfaces and abstract classes, properties of all implemented
+	 *         interfaces are included. If several descriptors have same name, first one is used.
+	 */
+	public static synchronized List<PropertyDescriptor> getPropertyDescriptors(Class<?> beanClass)
+			throws Exception {
+		List<PropertyDescriptor> descriptors = m_descriptors.get(beanClass);
+		if (descriptors == null) {
+			descriptors = Collections.unmodifiableList(introspect(beanClass));
+			m_descriptors.put(beanClass, descriptors);
+		}
+		return descriptors;
+	}
+
+	/**
+	 * @return the unmodifiable {@link List} of {@link PropertyDescriptor}'s returned by
+	 *         {@link #getPropertyDescriptors(Class)}, sorted by name.
+	 */
+	public static synchronized List<PropertyDescriptor> getSortedPropertyDescriptors(
+			Class<?> beanClass) throws Exception {
+		List<PropertyDescriptor> descriptors = m_sortedDescriptors.get(beanClass);
+		if (descriptors == null) {
+			List<PropertyDescriptor> sorted = new ArrayList<>(getPropertyDescriptors(beanClass));
+			sorted.sort(Comparator.comparing(PropertyDescriptor::getName));
+			descriptors = Collections.unmodifiableList(sorted);
+			m_sortedDescriptors.put(beanClass, descriptors);
+		}
+		return descriptors;
+	}
+
+	/**
+	 * Removes descriptors of all {@link Class}'s loaded by given {@link ClassLoader}.
+	 */
+	public static synchronized void clear(ClassLoader classLoader) {
+		m_descriptors.clear(classLoader);
+		m_sortedDescriptors.clear(classLoader);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Implementation
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private static List<PropertyDescriptor> introspect(Class<?> beanClass) throws Exception {
+		Map<String, PropertyDescriptor> descriptors = new LinkedHashMap<>();
+		// handle interfaces
+		if (beanClass.isInterface() || Modifier.isAbstract(beanClass.getModifiers())) {
+			for (Class<?> i : ClassUtils.getAllInterfaces(beanClass)) {
+				addDescriptors(descriptors, Introspector.getBeanInfo(i).getPropertyDescriptors());
+			}
+		}
+		// handle bean
+		addDescriptors(descriptors, Introspector.getBeanInfo(beanClass).getPropertyDescriptors());
+		return new ArrayList<>(descriptors.values());
+	}
+
+	private static void addDescriptors(Map<String, PropertyDescriptor> descriptors,
+			PropertyDescriptor[] newDescriptors) {
+		for (PropertyDescriptor descriptor : newDescriptors) {
+			if (descriptor.getPropertyType() != null) {
+				descriptors.putIfAbsent(descriptor.getName(), descriptor);
+			}
+		}
+	}
+}
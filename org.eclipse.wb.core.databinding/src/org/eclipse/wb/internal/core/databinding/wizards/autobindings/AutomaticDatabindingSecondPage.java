@@ -199,6 +199,12 @@ public final class AutomaticDatabindingSecondPage extends WizardPage implements
 		super.setVisible(visible);
 	}
 
+	@Override
+	public void dispose() {
+		m_databindingProvider.dispose();
+		super.dispose();
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Handling
@@ -17,6 +17,7 @@ import org.eclipse.wb.internal.core.databinding.Messages;
 import org.eclipse.wb.internal.core.databinding.ui.UiUtils;
 import org.eclipse.wb.internal.core.databinding.ui.editor.ICompleteListener;
 import org.eclipse.wb.internal.core.databinding.ui.editor.contentproviders.PropertyAdapter;
+import org.eclipse.wb.internal.core.databinding.utils.BeanIntrospectionCache;
 import org.eclipse.wb.internal.core.databinding.utils.CoreUtils;
 import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
 import org.eclipse.wb.internal.core.utils.ui.GridDataFactory;
@@ -103,6 +104,16 @@ public abstract class DefaultAutomaticDatabindingProvider implements IAutomaticD
 		return CoreUtils.load(m_classLoader, className);
 	}
 
+	@Override
+	public void dispose() {
+		for (ClassLoader classLoader : m_classLoaders.values()) {
+			BeanIntrospectionCache.clear(classLoader);
+		}
+		m_classLoaders.clear();
+		m_classLoader = null;
+		m_beanClass = null;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Properties
@@ -78,6 +78,11 @@ public interface IAutomaticDatabindingProvider {
 	 */
 	Class<?> loadClass(String className) throws ClassNotFoundException;
 
+	/**
+	 * Releases {@link ClassLoader}'s and cached information about classes, when wizard is closed.
+	 */
+	void dispose();
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// GUI
@@ -39,6 +39,7 @@ import org.eclipse.wb.internal.core.model.description.helpers.ComponentPresentat
 import org.eclipse.wb.internal.core.model.util.ScriptUtils;
 import org.eclipse.wb.internal.core.utils.check.Assert;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.execution.PerformanceTracer;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 import org.eclipse.wb.internal.core.utils.jdt.core.ProjectUtils;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
@@ -432,11 +433,14 @@ public final class ComponentEntryInfo extends ToolEntryInfo {
 
 			@Override
 			public void activate() throws Exception {
-				CreationSupport creationSupport = new ConstructorCreationSupport(m_creationId, true);
-				m_javaInfo = JavaInfoUtils.createJavaInfo(m_editor, m_description, creationSupport);
-				m_javaInfo.putTemplateArguments(genericArguments);
-				m_javaInfo = JavaInfoUtils.getWrapped(m_javaInfo);
-				m_javaInfo.putArbitraryValue(JavaInfo.FLAG_MANUAL_COMPONENT, Boolean.TRUE);
+				try (PerformanceTracer tracer =
+						PerformanceTracer.start(PerformanceTracer.CREATE, m_className)) {
+					CreationSupport creationSupport = new ConstructorCreationSupport(m_creationId, true);
+					m_javaInfo = JavaInfoUtils.createJavaInfo(m_editor, m_description, creationSupport);
+					m_javaInfo.putTemplateArguments(genericArguments);
+					m_javaInfo = JavaInfoUtils.getWrapped(m_javaInfo);
+					m_javaInfo.putArbitraryValue(JavaInfo.FLAG_MANUAL_COMPONENT, Boolean.TRUE);
+				}
 			}
 
 			@Override
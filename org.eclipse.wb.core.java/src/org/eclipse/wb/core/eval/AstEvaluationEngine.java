@@ -18,6 +18,7 @@ import org.eclipse.wb.internal.core.utils.exception.DesignerException;
 import org.eclipse.wb.internal.core.utils.exception.DesignerExceptionUtils;
 import org.eclipse.wb.internal.core.utils.exception.ICoreExceptionConstants;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.execution.PerformanceTracer;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 
 import org.eclipse.jdt.core.dom.ClassInstanceCreation;
@@ -56,6 +57,19 @@ public final class AstEvaluationEngine {
 	 */
 	public static Object evaluate(final EvaluationContext context, final Expression expression)
 			throws Exception {
+		// measure creation of objects, to find slow constructors
+		if (expression instanceof ClassInstanceCreation creation) {
+			try (PerformanceTracer tracer = PerformanceTracer.startComponent(
+					PerformanceTracer.CONSTRUCTOR,
+					creation.getType().toString())) {
+				return evaluate1(context, expression);
+			}
+		}
+		return evaluate1(context, expression);
+	}
+
+	private static Object evaluate1(final EvaluationContext context, final Expression expression)
+			throws Exception {
 		try {
 			return evaluate0(context, expression);
 		} catch (final Throwable e) {
@@ -565,6 +565,7 @@ public final class ExecutionFlowUtils {
 	//
 	////////////////////////////////////////////////////////////////////////////
 	private static final String KEY_LAST_VARIABLE_STAMP = "KEY_LAST_VARIABLE_STAMP";
+	private static final String KEY_LAST_REFERENCES_STAMP = "KEY_LAST_REFERENCES_STAMP";
 	private static final String KEY_DECLARATION = "KEY_DECLARATION";
 	private static final String KEY_REFERENCES = "KEY_REFERENCES";
 	private static final String KEY_ASSIGNMENTS = "KEY_ASSIGNMENTS";
@@ -674,19 +675,41 @@ public final class ExecutionFlowUtils {
 		if (clearCachedValuesForDanglingNode(variable)) {
 			return null;
 		}
-		// check for cached value
-		{
-			Long lastStamp = (Long) variable.getProperty(KEY_LAST_VARIABLE_STAMP);
-			if (lastStamp != null && lastStamp.longValue() == variable.getAST().modificationCount()) {
-				return variable.getProperty(key);
+		long stamp = variable.getAST().modificationCount();
+		// references are known only after visiting CompilationUnit, and it is done after visiting
+		// execution flow, so everything is known if references are up to date
+		if (hasStamp(variable, KEY_LAST_REFERENCES_STAMP, stamp)) {
+			return variable.getProperty(key);
+		}
+		// declaration and assignments of variable on execution flow are known after visiting flow
+		if (key != KEY_REFERENCES) {
+			if (!hasStamp(variable, KEY_LAST_VARIABLE_STAMP, stamp)) {
+				prepareAssignmentInformation(flowDescription);
+			}
+			if (hasStamp(variable, KEY_LAST_VARIABLE_STAMP, stamp)) {
+				Object value = variable.getProperty(key);
+				// if no "real last assignment", it is taken from declaration when visiting CompilationUnit
+				if (value != null || key != KEY_LAST_ASSIGNMENT) {
+					return value;
+				}
 			}
+		} else if (!hasStamp(variable, KEY_LAST_VARIABLE_STAMP, stamp)) {
+			prepareAssignmentInformation(flowDescription);
 		}
-		// well, we don't have cached value, so prepare
-		prepareAssignmentInformation(flowDescription);
+		// references, or variable is not on execution flow, so visit CompilationUnit
+		prepareReferencesInformation(flowDescription);
 		// return newly created result
 		return variable.getProperty(key);
 	}
 
+	/**
+	 * @return <code>true</code> if given variable has cache stamp with given key and value.
+	 */
+	private static boolean hasStamp(ASTNode variable, String stampKey, long stamp) {
+		Long lastStamp = (Long) variable.getProperty(stampKey);
+		return lastStamp != null && lastStamp.longValue() == stamp;
+	}
+
 	/**
 	 * When variable {@link ASTNode} is dangling, we will not able to visit it on execution flow, so
 	 * have to clear cached information manually.
@@ -708,7 +731,8 @@ public final class ExecutionFlowUtils {
 
 	/**
 	 * Tracks assignments on execution flow starting from given {@link ExecutionFlowDescription} and
-	 * remember results in {@link ASTNode} properties.
+	 * remember results in {@link ASTNode} properties. References are not tracked, see
+	 * {@link #prepareReferencesInformation(ExecutionFlowDescription)}.
 	 */
 	private static void prepareAssignmentInformation(ExecutionFlowDescription flowDescription) {
 		final Long assignmentStamp = flowDescription.getAST().modificationCount();
@@ -739,6 +763,16 @@ public final class ExecutionFlowUtils {
 				}
 			}
 		});
+	}
+
+	/**
+	 * Tracks references of all variables in {@link CompilationUnit} and remember results in
+	 * {@link ASTNode} properties. Should be done after
+	 * {@link #prepareAssignmentInformation(ExecutionFlowDescription)} with same AST modification
+	 * count.
+	 */
+	private static void prepareReferencesInformation(ExecutionFlowDescription flowDescription) {
+		final Long referencesStamp = flowDescription.getAST().modificationCount();
 		// visit CompilationUnit, find references for all variables
 		flowDescription.getCompilationUnit().accept(new AbstractVariablesExecutionFlowVisitor(false) {
 			@Override
@@ -767,6 +801,7 @@ public final class ExecutionFlowUtils {
 				}
 				if (node instanceof Expression) {
 					if (isVariable(node)) {
+						node.setProperty(KEY_LAST_REFERENCES_STAMP, referencesStamp);
 						executionFlowContext.storeReferences((Expression) node);
 					}
 					// special support for "instanceOfTopType.field"
@@ -73,6 +73,7 @@ import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.Assignment;
@@ -706,6 +707,7 @@ public class JavaInfo extends ObjectInfo implements HasSourcePosition {
 	public final void addRelatedNode(ASTNode node) {
 		if (node != null && !m_nodes.contains(node)) {
 			m_nodes.add(node);
+			m_signatureInvocations = null;
 		}
 	}
 
@@ -742,6 +744,9 @@ public class JavaInfo extends ObjectInfo implements HasSourcePosition {
 	 */
 	public final List<ASTNode> getRelatedNodes() {
 		AstNodeUtils.removeDanglingNodes(m_nodes);
+		if (m_signatureInvocations != null && m_signatureInvocationsNodes != m_nodes.size()) {
+			m_signatureInvocations = null;
+		}
 		return m_nodes;
 	}
 
@@ -880,21 +885,49 @@ public class JavaInfo extends ObjectInfo implements HasSourcePosition {
 	 */
 	public final List<MethodInvocation> getMethodInvocations(String signature) {
 		List<MethodInvocation> invocations = new ArrayList<>();
-		for (ASTNode node : getRelatedNodes()) {
-			// prepare invocation from related node
-			MethodInvocation invocation = getMethodInvocation(node);
-			// check invocation
-			if (invocation != null) {
-				String methodSignature = AstNodeUtils.getMethodSignature(invocation);
-				if (signature.equals(methodSignature) && isRepresentedBy(invocation.getExpression())) {
-					invocations.add(invocation);
-				}
+		for (MethodInvocation invocation : getSignatureInvocations().getOrDefault(
+				signature,
+				Collections.emptyList())) {
+			if (isRepresentedBy(invocation.getExpression())) {
+				invocations.add(invocation);
 			}
 		}
 		//
 		return invocations;
 	}
 
+	/**
+	 * Index of {@link MethodInvocation}s of related nodes by signature, in order of related nodes.
+	 * Computing signature requires binding and building string, so we do this only once, until set of
+	 * related nodes or AST is changed. Any change of AST, for example renaming invocation or changing
+	 * its arguments, changes modification count of {@link AST}.
+	 */
+	private Map<String, List<MethodInvocation>> m_signatureInvocations;
+	private int m_signatureInvocationsNodes;
+	private long m_signatureInvocationsStamp;
+
+	/**
+	 * @return the {@link Map} of signatures into {@link MethodInvocation}s of related nodes.
+	 */
+	private Map<String, List<MethodInvocation>> getSignatureInvocations() {
+		List<ASTNode> nodes = getRelatedNodes();
+		long stamp = m_editor.getAstUnit().getAST().modificationCount();
+		if (m_signatureInvocations == null || m_signatureInvocationsStamp != stamp) {
+			Map<String, List<MethodInvocation>> signatureInvocations = new HashMap<>();
+			for (ASTNode node : nodes) {
+				MethodInvocation invocation = getMethodInvocation(node);
+				if (invocation != null) {
+					String signature = AstNodeUtils.getMethodSignature(invocation);
+					signatureInvocations.computeIfAbsent(signature, k -> new ArrayList<>()).add(invocation);
+				}
+			}
+			m_signatureInvocations = signatureInvocations;
+			m_signatureInvocationsNodes = nodes.size();
+			m_signatureInvocationsStamp = stamp;
+		}
+		return m_signatureInvocations;
+	}
+
 	/**
 	 * @return the {@link MethodInvocation} of this {@link JavaInfo} with given signature.
 	 */
@@ -1090,6 +1123,11 @@ public class JavaInfo extends ObjectInfo implements HasSourcePosition {
 	////////////////////////////////////////////////////////////////////////////
 	private JavaInfoEvaluationHelper m_evaluationHelper;
 
+	@Override
+	protected String getRefreshSubject() {
+		return m_editor.getModelUnit().getElementName();
+	}
+
 	@Override
 	public void refresh_dispose() throws Exception {
 		// clean object reference
@@ -40,6 +40,7 @@ import org.eclipse.wb.internal.core.utils.exception.ICoreExceptionConstants;
 import org.eclipse.wb.internal.core.utils.exception.MultipleConstructorsError;
 import org.eclipse.wb.internal.core.utils.exception.NoEntryPointError;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.execution.PerformanceTracer;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
@@ -47,8 +48,11 @@ import org.eclipse.wb.internal.core.utils.ui.GridDataFactory;
 import org.eclipse.wb.internal.core.utils.ui.GridLayoutFactory;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jface.dialogs.ProgressMonitorDialog;
 import org.eclipse.jface.operation.IRunnableWithProgress;
@@ -536,7 +540,11 @@ public final class DesignPage implements IDesignPage {
 			if (DEBUG) {
 				System.out.print("Parsing...");
 			}
-			m_rootObject = JavaInfoParser.parse(m_compilationUnit);
+			try (PerformanceTracer tracer = PerformanceTracer.start(
+					PerformanceTracer.PARSE,
+					m_compilationUnit.getElementName())) {
+				m_rootObject = JavaInfoParser.parse(m_compilationUnit);
+			}
 			monitor.worked(1);
 			if (DEBUG) {
 				System.out.println("done: " + (System.currentTimeMillis() - start));
@@ -591,23 +599,27 @@ public final class DesignPage implements IDesignPage {
 			}
 		}
 		// refresh design
-		ExecutionUtils.runRethrowUI(() -> m_designComposite.refresh(m_rootObject, monitor));
+		try (PerformanceTracer tracer = PerformanceTracer.start(
+				PerformanceTracer.GEF_REFRESH,
+				m_compilationUnit.getElementName())) {
+			ExecutionUtils.runRethrowUI(() -> m_designComposite.refresh(m_rootObject, monitor));
+		}
 		// configure helpers
 		m_undoManager.setRoot(m_rootObject);
 	}
 
 	private void schedule_rememberDependency() {
-		new Thread("WindowBuilder dependency search") {
+		final JavaInfo rootObject = m_rootObject;
+		Job job = new Job("WindowBuilder dependency search") {
 			@Override
-			public void run() {
-				ExecutionUtils.runIgnore(new RunnableEx() {
-					@Override
-					public void run() throws Exception {
-						JavaInfoUtils.rememberDependency(m_rootObject);
-					}
-				});
+			protected IStatus run(IProgressMonitor monitor) {
+				ExecutionUtils.runIgnore(() -> JavaInfoUtils.rememberDependency(rootObject));
+				return Status.OK_STATUS;
 			}
-		}.start();
+		};
+		job.setSystem(true);
+		job.setPriority(Job.DECORATE);
+		job.schedule();
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.editor;
+
+import org.eclipse.wb.internal.core.DesignerPlugin;
+import org.eclipse.wb.internal.core.model.description.helpers.ComponentPresentationHelper;
+import org.eclipse.wb.internal.core.model.description.helpers.DescriptionHelper;
+import org.eclipse.wb.internal.core.preferences.IPreferenceConstants;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IImportDeclaration;
+import org.eclipse.jdt.core.IType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * {@link Job} that prepares shared state required for "Design" page of {@link ICompilationUnit},
+ * while its editor shows "Source" page. It loads descriptions of the toolkits used by unit, fills
+ * presentations of their palette components and parses descriptions of these components. So, when
+ * user switches to "Design", less work is left.
+ *
+ * @coverage core.editor
+ */
+public final class DesignPagePrewarmJob extends Job {
+	public static final String FAMILY = "design page pre-warm";
+	private final ICompilationUnit m_compilationUnit;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Scheduling
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Schedules {@link DesignPagePrewarmJob} for given {@link ICompilationUnit}, if enabled in
+	 * preferences.
+	 *
+	 * @return the scheduled {@link Job}, may be <code>null</code>.
+	 */
+	public static Job schedule(ICompilationUnit compilationUnit) {
+		int prewarm = DesignerPlugin.getPreferences().getInt(IPreferenceConstants.P_EDITOR_PREWARM);
+		if (prewarm == IPreferenceConstants.V_EDITOR_PREWARM_DISABLED) {
+			return null;
+		}
+		Job job = new DesignPagePrewarmJob(compilationUnit);
+		job.setPriority(prewarm == IPreferenceConstants.V_EDITOR_PREWARM_NORMAL ? LONG : DECORATE);
+		job.schedule();
+		return job;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private DesignPagePrewarmJob(ICompilationUnit compilationUnit) {
+		super("Preparing WindowBuilder design for " + compilationUnit.getElementName());
+		m_compilationUnit = compilationUnit;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Job
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	public boolean belongsTo(Object family) {
+		return FAMILY.equals(family);
+	}
+
+	@Override
+	protected IStatus run(IProgressMonitor monitor) {
+		try {
+			Set<String> toolkitIds = getToolkitIds();
+			SubMonitor subMonitor = SubMonitor.convert(monitor, getName(), 2 * toolkitIds.size());
+			// load toolkits
+			for (String toolkitId : toolkitIds) {
+				if (subMonitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				subMonitor.subTask("Loading " + toolkitId + "...");
+				DescriptionHelper.getToolkit(toolkitId);
+				ComponentPresentationHelper.fillPresentationCache(toolkitId, subMonitor.newChild(1));
+				ComponentPresentationHelper.fillDescriptionCache(toolkitId, subMonitor.newChild(1));
+			}
+		} catch (Throwable e) {
+			// ignore, any problem will be reported during parsing
+		} finally {
+			monitor.done();
+		}
+		return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Implementation
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the ids of toolkits which may be used by {@link ICompilationUnit}, detected using
+	 *         super class of primary type and imports.
+	 */
+	private Set<String> getToolkitIds() throws Exception {
+		List<String> names = new ArrayList<>();
+		// super class
+		IType type = m_compilationUnit.findPrimaryType();
+		if (type != null && type.getSuperclassName() != null) {
+			String[][] resolvedNames = type.resolveType(type.getSuperclassName());
+			if (resolvedNames != null) {
+				for (String[] resolvedName : resolvedNames) {
+					names.add(resolvedName[0] + "." + resolvedName[1]);
+				}
+			}
+		}
+		// imports
+		for (IImportDeclaration importDeclaration : m_compilationUnit.getImports()) {
+			names.add(importDeclaration.getElementName());
+		}
+		// match names, but ignore utility classes, they are used everywhere
+		Set<String> toolkitIds = new TreeSet<>();
+		for (String name : names) {
+			if (!name.startsWith("java.lang.") && !name.startsWith("java.util.")) {
+				toolkitIds.addAll(DescriptionHelper.getToolkitIds(name));
+			}
+		}
+		return toolkitIds;
+	}
+}
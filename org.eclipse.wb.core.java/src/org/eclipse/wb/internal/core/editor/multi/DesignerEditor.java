@@ -18,6 +18,7 @@ import org.eclipse.wb.core.editor.IMultiMode;
 import org.eclipse.wb.internal.core.DesignerPlugin;
 import org.eclipse.wb.internal.core.editor.DesignComposite;
 import org.eclipse.wb.internal.core.editor.DesignPage;
+import org.eclipse.wb.internal.core.editor.DesignPagePrewarmJob;
 import org.eclipse.wb.internal.core.preferences.IPreferenceConstants;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
@@ -25,6 +26,7 @@ import org.eclipse.wb.internal.core.views.IDesignCompositeProvider;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitEditor;
@@ -62,6 +64,7 @@ IDesignCompositeProvider {
 	private boolean m_firstActivation = true;
 	private Composite m_rootControl;
 	private VisitedLinesHighlighter m_linesHighlighter;
+	private Job m_prewarmJob;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -110,6 +113,9 @@ IDesignCompositeProvider {
 		super.doSetInput(input);
 		if (!canDesignInput()) {
 			m_multiMode = new MultiSourceMode(this);
+		} else {
+			cancelPrewarm();
+			m_prewarmJob = DesignPagePrewarmJob.schedule(getCompilationUnit());
 		}
 		m_multiMode.onSetInput();
 	}
@@ -148,10 +154,21 @@ IDesignCompositeProvider {
 
 	@Override
 	public void dispose() {
+		cancelPrewarm();
 		super.dispose();
 		m_multiMode.dispose();
 	}
 
+	/**
+	 * Cancels {@link DesignPagePrewarmJob} of this editor, if not done yet.
+	 */
+	private void cancelPrewarm() {
+		if (m_prewarmJob != null) {
+			m_prewarmJob.cancel();
+			m_prewarmJob = null;
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Internal access
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.java;
+
+import org.eclipse.wb.internal.core.model.description.helpers.FactoryDescriptionHelper;
+import org.eclipse.wb.internal.core.utils.jdt.core.TypeDependencyGraph;
+
+import org.eclipse.core.runtime.Plugin;
+
+import org.osgi.framework.BundleContext;
+
+/**
+ * The activator class controls the Java core plug-in life cycle.
+ */
+public final class Activator extends Plugin {
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Life cycle
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	public void start(BundleContext context) throws Exception {
+		super.start(context);
+		TypeDependencyGraph.start();
+		FactoryDescriptionHelper.start();
+	}
+
+	@Override
+	public void stop(BundleContext context) throws Exception {
+		FactoryDescriptionHelper.stop();
+		TypeDependencyGraph.stop();
+		super.stop(context);
+	}
+}
@@ -67,23 +67,21 @@ import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 import org.eclipse.wb.internal.core.utils.jdt.core.CodeUtils;
+import org.eclipse.wb.internal.core.utils.jdt.core.TypeDependencyGraph;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 import org.eclipse.wb.internal.core.utils.state.EditorState;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IField;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.dom.ASTNode;
-import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.BodyDeclaration;
-import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
-import org.eclipse.jdt.core.dom.QualifiedName;
-import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.Statement;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jface.viewers.Viewer;
@@ -2084,15 +2082,16 @@ public class JavaInfoUtils {
 	}
 
 	/**
-	 * @return <code>true</code> if one of the referenced types was changed.
+	 * @return <code>true</code> if one of the referenced types was changed. Changes of formatting and
+	 *         comments in referenced units don't change types, so don't cause reparse.
 	 */
 	@SuppressWarnings("unchecked")
 	public static boolean isDependencyChanged(JavaInfo javaInfo) throws Exception {
-		Map<IResource, Long> dependencies =
-				(Map<IResource, Long>) javaInfo.getEditor().getGlobalValue(DEPENDENCY_KEY);
+		Map<IResource, Dependency> dependencies =
+				(Map<IResource, Dependency>) javaInfo.getEditor().getGlobalValue(DEPENDENCY_KEY);
 		if (dependencies != null) {
-			for (Map.Entry<IResource, Long> entry : dependencies.entrySet()) {
-				if (entry.getKey().getModificationStamp() != entry.getValue()) {
+			for (Map.Entry<IResource, Dependency> entry : dependencies.entrySet()) {
+				if (entry.getValue().isChanged(entry.getKey())) {
 					return true;
 				}
 			}
@@ -2101,13 +2100,13 @@ public class JavaInfoUtils {
 	}
 
 	/**
-	 * Remembers dependency information for given {@link JavaInfo}, i.e. time stamps for referenced
-	 * types.
+	 * Remembers dependency information for given {@link JavaInfo}, i.e. time stamps and hashes of
+	 * tokens for referenced types.
 	 */
 	public static void rememberDependency(JavaInfo javaInfo) throws Exception {
 		AstEditor editor = javaInfo.getEditor();
 		// prepare dependencies
-		Map<IResource, Long> dependencies = new HashMap<>();
+		Map<IResource, Dependency> dependencies = new HashMap<>();
 		addDependencies(dependencies, new TreeSet<>(), editor.getModelUnit(), 0);
 		// don't use this compilation unit resource
 		dependencies.remove(editor.getModelUnit().getResource());
@@ -2118,7 +2117,7 @@ public class JavaInfoUtils {
 	/**
 	 * Adds dependencies for given {@link ICompilationUnit}.
 	 */
-	private static void addDependencies(final Map<IResource, Long> dependencies,
+	private static void addDependencies(final Map<IResource, Dependency> dependencies,
 			final Set<String> checkedTypes,
 			final ICompilationUnit modelUnit,
 			final int level) throws Exception {
@@ -2127,40 +2126,59 @@ public class JavaInfoUtils {
 			// add current resource
 			{
 				IResource resource = modelUnit.getResource();
-				dependencies.put(resource, resource.getModificationStamp());
+				dependencies.put(resource, new Dependency((IFile) resource));
 			}
-			// add references
-			CompilationUnit astUnit = CodeUtils.parseCompilationUnit(modelUnit);
-			astUnit.accept(new ASTVisitor() {
-				@Override
-				public void endVisit(QualifiedName node) {
-					addNewType(node.resolveTypeBinding());
-				}
-
-				@Override
-				public void endVisit(SimpleName node) {
-					addNewType(node.resolveTypeBinding());
-				}
-
-				private void addNewType(final ITypeBinding binding) {
-					if (binding == null) {
-						return;
-					}
+			// add references, shared graph parses only changed units
+			for (final String typeName : TypeDependencyGraph.getReferencedTypes(modelUnit)) {
+				if (checkedTypes.add(typeName)) {
 					ExecutionUtils.runIgnore(new RunnableEx() {
 						@Override
 						public void run() throws Exception {
-							String typeName = AstNodeUtils.getFullyQualifiedName(binding, false);
-							if (typeName.indexOf('.') != -1 && !checkedTypes.contains(typeName)) {
-								checkedTypes.add(typeName);
-								IType type = javaProject.findType(typeName);
-								if (type != null && !type.isBinary()) {
-									addDependencies(dependencies, checkedTypes, type.getCompilationUnit(), level + 1);
-								}
+							IType type = javaProject.findType(typeName);
+							if (type != null && !type.isBinary()) {
+								addDependencies(dependencies, checkedTypes, type.getCompilationUnit(), level + 1);
 							}
 						}
 					});
 				}
-			});
+			}
+		}
+	}
+
+	/**
+	 * State of single referenced {@link IFile}.
+	 */
+	private static final class Dependency {
+		private long m_stamp;
+		private final Integer m_tokensHash;
+
+		public Dependency(IFile file) {
+			m_stamp = file.getModificationStamp();
+			m_tokensHash = getTokensHash(file);
+		}
+
+		/**
+		 * @return <code>true</code> if tokens of given {@link IResource} were changed. If only its
+		 *         formatting or comments were changed, new modification stamp is remembered.
+		 */
+		public boolean isChanged(IResource resource) {
+			long stamp = resource.getModificationStamp();
+			if (stamp == m_stamp) {
+				return false;
+			}
+			Integer tokensHash = getTokensHash((IFile) resource);
+			if (tokensHash == null || !tokensHash.equals(m_tokensHash)) {
+				return true;
+			}
+			m_stamp = stamp;
+			return false;
+		}
+
+		/**
+		 * @return the hash of tokens, or <code>null</code> if {@link IFile} can not be scanned.
+		 */
+		private static Integer getTokensHash(IFile file) {
+			return ExecutionUtils.runObjectIgnore(() -> TypeDependencyGraph.getTokensHash(file), null);
 		}
 	}
 
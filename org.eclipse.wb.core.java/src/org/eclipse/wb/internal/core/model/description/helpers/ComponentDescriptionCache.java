@@ -0,0 +1,422 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.model.description.helpers;
+
+import org.eclipse.wb.core.databinding.xsd.component.Component;
+import org.eclipse.wb.core.databinding.xsd.component.ContextFactory;
+import org.eclipse.wb.internal.core.DesignerPlugin;
+import org.eclipse.wb.internal.core.model.description.resource.ResourceInfo;
+import org.eclipse.wb.internal.core.utils.IOUtils2;
+
+import org.apache.commons.io.FileUtils;
+import org.osgi.framework.Bundle;
+import org.osgi.framework.FrameworkUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.jar.JarEntry;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+/**
+ * Cache for the JAXB models of <code>*.wbp-component.xml</code> files.
+ * <p>
+ * Each model is identified by the hash of the description resource content, so
+ * a modified description or a description resolved from a different classpath
+ * is never served from the cache. Models are serialized and kept in memory and
+ * additionally in the state location of the plugin, so that descriptions can
+ * be read without JAXB in later sessions. The disk cache is bound to the
+ * version of the schema bundle and discarded when this version changes.
+ * <p>
+ * Content of elements without schema type, such as
+ * <code>&lt;standard-bean-properties/&gt;</code>, is unmarshalled by JAXB as
+ * DOM {@link Element}. It is written as XML text and parsed back when the
+ * model is read.
+ * <p>
+ * DOM is not thread safe, even for reading, and models are requested by
+ * editors and by background jobs. So each request returns new model, read
+ * from its serialized form, and models are never shared.
+ */
+public final class ComponentDescriptionCache {
+	/**
+	 * Version of the cache layout, increment when format of cache files changes.
+	 */
+	private static final int FORMAT_VERSION = 1;
+	private static final String DIRECTORY_PREFIX = "components-";
+	/**
+	 * Maximal number of entries in each memory cache, more than enough for the
+	 * descriptions of all palette components of all toolkits.
+	 */
+	private static final int MAX_MEMORY_ENTRIES = 2048;
+	private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+			Component.class.getPackageName() + ".*;java.lang.*;java.util.*;jakarta.xml.bind.JAXBElement;"
+					+ "javax.xml.namespace.QName;" + ElementContent.class.getName() + ";!*");
+	private static final Map<String, byte[]> m_components = Collections.synchronizedMap(new MemoryCache<>());
+	private static final Map<String, ResourceKey> m_resourceKeys = Collections.synchronizedMap(new MemoryCache<>());
+	private static File m_cacheDirectory;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private ComponentDescriptionCache() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the {@link Component} model of the given description resource. The
+	 *         returned model is not shared, so can be used in any thread.
+	 */
+	public static Component getComponent(ResourceInfo resourceInfo) throws Exception {
+		URL url = resourceInfo.getURL();
+		// try memory, if resource was not changed since its content was hashed
+		String stamp = getStamp(resourceInfo);
+		if (stamp != null) {
+			ResourceKey resourceKey = m_resourceKeys.get(url.toExternalForm());
+			if (resourceKey != null && resourceKey.stamp().equals(stamp)) {
+				Component component = readMemory(resourceKey.key());
+				if (component != null) {
+					return component;
+				}
+			}
+		}
+		// hash content
+		byte[] content = IOUtils2.readBytes(url.openStream());
+		String key = getKey(content);
+		if (stamp != null) {
+			m_resourceKeys.put(url.toExternalForm(), new ResourceKey(stamp, key));
+		}
+		// try memory
+		Component component = readMemory(key);
+		if (component != null) {
+			return component;
+		}
+		// try disk
+		File cacheFile = getCacheFile(key);
+		byte[] bytes = readCacheFile(cacheFile);
+		if (bytes != null) {
+			component = readComponent(bytes);
+			if (component != null) {
+				m_components.put(key, bytes);
+				return component;
+			}
+			// corrupted or incompatible, will be re-created
+			cacheFile.delete();
+		}
+		// use JAXB
+		StreamSource source = new StreamSource(new ByteArrayInputStream(content), url.toExternalForm());
+		component = (Component) ContextFactory.getContext().createUnmarshaller().unmarshal(source);
+		bytes = writeComponent(component);
+		if (bytes != null) {
+			writeCacheFile(cacheFile, bytes);
+			m_components.put(key, bytes);
+		}
+		return component;
+	}
+
+	/**
+	 * Clears in-memory cache, models are read from the disk cache again.
+	 */
+	public static void clearMemory() {
+		m_resourceKeys.clear();
+		m_components.clear();
+	}
+
+	/**
+	 * @return the disk cache file for the current content of the given
+	 *         description resource, may be <code>null</code> if there is no
+	 *         state location.
+	 */
+	public static File getCacheFile(ResourceInfo resourceInfo) throws Exception {
+		byte[] content = IOUtils2.readBytes(resourceInfo.getURL().openStream());
+		return getCacheFile(getKey(content));
+	}
+
+	/**
+	 * Clears in-memory and disk caches.
+	 */
+	public static void clear() {
+		m_resourceKeys.clear();
+		m_components.clear();
+		File cacheDirectory = getCacheDirectory();
+		if (cacheDirectory != null) {
+			FileUtils.deleteQuietly(cacheDirectory);
+			cacheDirectory.mkdirs();
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Implementation
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the stamp which changes when the given resource is modified, or
+	 *         <code>null</code> if it can not be determined without reading the
+	 *         resource. Bundle resources change only with the bundle, resources
+	 *         in files and JARs use the modification time and size of the entry.
+	 */
+	private static String getStamp(ResourceInfo resourceInfo) throws Exception {
+		Bundle bundle = resourceInfo.getBundle();
+		if (bundle != null) {
+			return bundle.getBundleId() + ":" + bundle.getVersion() + ":" + bundle.getLastModified();
+		}
+		URL url = resourceInfo.getURL();
+		if ("file".equals(url.getProtocol())) {
+			File file = new File(url.toURI());
+			long lastModified = file.lastModified();
+			return lastModified != 0 ? lastModified + ":" + file.length() : null;
+		}
+		if (url.openConnection() instanceof JarURLConnection connection) {
+			JarEntry entry = connection.getJarEntry();
+			File jarFile = new File(connection.getJarFileURL().toURI());
+			return jarFile.lastModified() + ":" + entry.getTime() + ":" + entry.getSize();
+		}
+		return null;
+	}
+
+	private static String getKey(byte[] content) throws Exception {
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		return HexFormat.of().formatHex(digest.digest(content));
+	}
+
+	private static File getCacheFile(String key) {
+		File cacheDirectory = getCacheDirectory();
+		return cacheDirectory != null ? new File(cacheDirectory, key + ".ser") : null;
+	}
+
+	/**
+	 * @return the directory with cache files for the current schema version, may
+	 *         be <code>null</code> if there is no state location.
+	 */
+	private static synchronized File getCacheDirectory() {
+		if (m_cacheDirectory == null) {
+			try {
+				File stateDirectory = DesignerPlugin.getDefault().getStateLocation().toFile();
+				File descriptionsDirectory = new File(stateDirectory, "descriptions");
+				String directoryName = DIRECTORY_PREFIX + getSchemaVersion() + "-" + FORMAT_VERSION;
+				// remove caches of other versions
+				File[] directories = descriptionsDirectory.listFiles();
+				if (directories != null) {
+					for (File directory : directories) {
+						String name = directory.getName();
+						if (name.startsWith(DIRECTORY_PREFIX) && !name.equals(directoryName)) {
+							FileUtils.deleteQuietly(directory);
+						}
+					}
+				}
+				// ensure current directory
+				File cacheDirectory = new File(descriptionsDirectory, directoryName);
+				cacheDirectory.mkdirs();
+				m_cacheDirectory = cacheDirectory;
+			} catch (Throwable e) {
+				// no state location, use only memory cache
+			}
+		}
+		return m_cacheDirectory;
+	}
+
+	private static String getSchemaVersion() {
+		Bundle bundle = FrameworkUtil.getBundle(Component.class);
+		return bundle != null ? bundle.getVersion().toString() : "0.0.0";
+	}
+
+	/**
+	 * @return the new {@link Component} read from the memory cache, may be
+	 *         <code>null</code> if there is no such entry.
+	 */
+	private static Component readMemory(String key) {
+		byte[] bytes = m_components.get(key);
+		return bytes != null ? readComponent(bytes) : null;
+	}
+
+	/**
+	 * @return the {@link Component} read from its serialized form, may be
+	 *         <code>null</code> if serialized form is corrupted or incompatible.
+	 */
+	private static Component readComponent(byte[] bytes) {
+		try (ObjectInputStream objectStream = new SchemaObjectInputStream(new ByteArrayInputStream(bytes))) {
+			objectStream.setObjectInputFilter(FILTER);
+			return (Component) objectStream.readObject();
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	/**
+	 * @return the serialized form of the given {@link Component}, may be
+	 *         <code>null</code> if it can not be serialized.
+	 */
+	private static byte[] writeComponent(Component component) {
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		try (ObjectOutputStream objectStream = new SchemaObjectOutputStream(stream)) {
+			objectStream.writeObject(component);
+		} catch (Throwable e) {
+			DesignerPlugin.log(e);
+			return null;
+		}
+		return stream.toByteArray();
+	}
+
+	private static byte[] readCacheFile(File cacheFile) {
+		if (cacheFile == null || !cacheFile.exists()) {
+			return null;
+		}
+		try {
+			return Files.readAllBytes(cacheFile.toPath());
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+
+	private static void writeCacheFile(File cacheFile, byte[] bytes) {
+		if (cacheFile == null) {
+			return;
+		}
+		try {
+			// write into temporary file, so concurrent readers never see partial content
+			File tempFile = File.createTempFile("component", ".tmp", cacheFile.getParentFile());
+			Files.write(tempFile.toPath(), bytes);
+			Files.move(tempFile.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+		} catch (Throwable e) {
+			DesignerPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Access-ordered map which evicts the least recently used entry.
+	 */
+	private static final class MemoryCache<V> extends LinkedHashMap<String, V> {
+		private static final long serialVersionUID = 1L;
+
+		public MemoryCache() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+			return size() > MAX_MEMORY_ENTRIES;
+		}
+	}
+
+	/**
+	 * The content hash of a resource, valid while resource has the same stamp.
+	 */
+	private record ResourceKey(String stamp, String key) {
+	}
+
+	/**
+	 * {@link ObjectOutputStream} which replaces DOM {@link Element}'s with their
+	 * serializable {@link ElementContent}.
+	 */
+	private static final class SchemaObjectOutputStream extends ObjectOutputStream {
+		public SchemaObjectOutputStream(OutputStream out) throws IOException {
+			super(out);
+			enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object object) throws IOException {
+			if (object instanceof Element element) {
+				return new ElementContent(element);
+			}
+			return object;
+		}
+	}
+
+	/**
+	 * Serialized form of DOM {@link Element}, resolved back into
+	 * {@link Element} when read.
+	 */
+	private static final class ElementContent implements Serializable {
+		private static final long serialVersionUID = 1L;
+		private final String m_xml;
+
+		public ElementContent(Element element) throws IOException {
+			try {
+				Transformer transformer = TransformerFactory.newInstance().newTransformer();
+				transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+				StringWriter writer = new StringWriter();
+				transformer.transform(new DOMSource(element), new StreamResult(writer));
+				m_xml = writer.toString();
+			} catch (Exception e) {
+				throw new IOException(e);
+			}
+		}
+
+		private Object readResolve() throws IOException {
+			try {
+				DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+				factory.setNamespaceAware(true);
+				InputSource source = new InputSource(new StringReader(m_xml));
+				return factory.newDocumentBuilder().parse(source).getDocumentElement();
+			} catch (Exception e) {
+				throw new IOException(e);
+			}
+		}
+	}
+
+	/**
+	 * {@link ObjectInputStream} which resolves classes using the class loader of
+	 * the schema bundle.
+	 */
+	private static final class SchemaObjectInputStream extends ObjectInputStream {
+		public SchemaObjectInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			if (desc.getName().equals(ElementContent.class.getName())) {
+				return ElementContent.class;
+			}
+			try {
+				return Class.forName(desc.getName(), false, Component.class.getClassLoader());
+			} catch (ClassNotFoundException e) {
+				return super.resolveClass(desc);
+			}
+		}
+	}
+}
@@ -23,7 +23,6 @@ import org.eclipse.wb.core.databinding.xsd.component.Component.PropertiesNormal;
 import org.eclipse.wb.core.databinding.xsd.component.Component.PropertiesPreferred;
 import org.eclipse.wb.core.databinding.xsd.component.Component.PropertyTag;
 import org.eclipse.wb.core.databinding.xsd.component.ConfigurablePropertyType;
-import org.eclipse.wb.core.databinding.xsd.component.ContextFactory;
 import org.eclipse.wb.core.databinding.xsd.component.Creation;
 import org.eclipse.wb.core.databinding.xsd.component.ExposingRuleType;
 import org.eclipse.wb.core.databinding.xsd.component.ExposingRulesType;
@@ -87,6 +86,7 @@ import org.eclipse.wb.internal.core.utils.check.Assert;
 import org.eclipse.wb.internal.core.utils.exception.DesignerException;
 import org.eclipse.wb.internal.core.utils.exception.ICoreExceptionConstants;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.execution.PerformanceTracer;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 import org.eclipse.wb.internal.core.utils.jdt.core.CodeUtils;
@@ -113,7 +113,6 @@ import java.util.LinkedList;
 import java.util.List;
 
 import jakarta.xml.bind.JAXBElement;
-import jakarta.xml.bind.Unmarshaller;
 
 /**
  * Helper for accessing descriptions of components -
@@ -255,7 +254,11 @@ public final class ComponentDescriptionHelper {
 	public static ComponentDescription getDescription(AstEditor editor, Class<?> componentClass) {
 		ComponentDescription description = m_getDescription_Class.get(componentClass);
 		if (description == null) {
-			description = getDescription0(editor, componentClass);
+			try (PerformanceTracer tracer = PerformanceTracer.startComponent(
+					PerformanceTracer.DESCRIPTION,
+					componentClass.getName())) {
+				description = getDescription0(editor, componentClass);
+			}
 			m_getDescription_Class.put(componentClass, description);
 		}
 		return description;
@@ -370,8 +373,7 @@ public final class ComponentDescriptionHelper {
 				// read next description
 				{
 					componentDescription.setCurrentClass(descriptionInfo.clazz);
-					Unmarshaller jaxbUnmarshaller = ContextFactory.getContext().createUnmarshaller();
-					Component component = (Component) jaxbUnmarshaller.unmarshal(resourceInfo.getURL());
+					Component component = ComponentDescriptionCache.getComponent(resourceInfo);
 					process(componentDescription, component, editor);
 				}
 				// clear parts that can not be inherited
@@ -20,6 +20,7 @@ import org.eclipse.wb.internal.core.model.description.ToolkitDescription;
 import org.eclipse.wb.internal.core.model.description.resource.ResourceInfo;
 import org.eclipse.wb.internal.core.utils.IOUtils2;
 import org.eclipse.wb.internal.core.utils.ast.AstEditor;
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 import org.eclipse.wb.internal.core.utils.jdt.core.CodeUtils;
 import org.eclipse.wb.internal.core.utils.state.EditorState;
@@ -353,11 +354,11 @@ public final class ComponentPresentationHelper {
 		// Access
 		//
 		////////////////////////////////////////////////////////////////////////////
-		public ComponentPresentation get(String key) {
+		public synchronized ComponentPresentation get(String key) {
 			return m_presentations.get(key);
 		}
 
-		public void put(ComponentPresentation presentation) throws Exception {
+		public synchronized void put(ComponentPresentation presentation) throws Exception {
 			m_presentations.put(presentation.getKey(), presentation);
 			writeCacheEntry(presentation);
 		}
@@ -551,14 +552,7 @@ public final class ComponentPresentationHelper {
 			@Override
 			protected IStatus run(IProgressMonitor monitor) {
 				try {
-					// ensure cache
-					ComponentPresentationCache cache = getCache(toolkitId);
-					if (monitor.isCanceled()) {
-						// it OK
-						return Status.OK_STATUS;
-					}
-					// proceed with presentations
-					fillPresentations(cache, toolkitId, monitor);
+					fillPresentationCache(toolkitId, monitor);
 				} catch (Exception e) {
 					DesignerPlugin.log(e);
 				}
@@ -573,6 +567,52 @@ public final class ComponentPresentationHelper {
 		job.schedule();
 	}
 
+	/**
+	 * Fills the cache of presentations for palette components of given toolkit.
+	 */
+	public static void fillPresentationCache(String toolkitId, IProgressMonitor monitor)
+			throws Exception {
+		// ensure cache
+		ComponentPresentationCache cache = getCache(toolkitId);
+		if (monitor.isCanceled()) {
+			// it OK
+			return;
+		}
+		// proceed with presentations
+		fillPresentations(cache, toolkitId, monitor);
+	}
+
+	/**
+	 * Parses descriptions of palette components of given toolkit, so that they are ready in
+	 * {@link ComponentDescriptionCache}. Problems are ignored, they will be reported when component is
+	 * used.
+	 */
+	public static void fillDescriptionCache(String toolkitId, IProgressMonitor monitor)
+			throws Exception {
+		ToolkitDescription toolkit = DescriptionHelper.getToolkit(toolkitId);
+		for (IConfigurationElement toolkitElement : DescriptionHelper.getToolkitElements(toolkitId)) {
+			Bundle bundle = ExternalFactoriesHelper.getExtensionBundle(toolkitElement);
+			for (IConfigurationElement paletteElement : toolkitElement.getChildren("palette")) {
+				for (IConfigurationElement categoryElement : paletteElement.getChildren("category")) {
+					for (IConfigurationElement element : categoryElement.getChildren("component")) {
+						if (monitor.isCanceled()) {
+							return;
+						}
+						String className = ExternalFactoriesHelper.getRequiredAttribute(element, "class");
+						String resourceName =
+								"/wbp-meta/" + className.replace('.', '/') + ".wbp-component.xml";
+						URL resourceEntry = bundle.getEntry(resourceName);
+						if (resourceEntry != null) {
+							ResourceInfo resourceInfo = new ResourceInfo(bundle, toolkit, resourceEntry);
+							ExecutionUtils.runIgnore(
+									() -> ComponentDescriptionCache.getComponent(resourceInfo));
+						}
+					}
+				}
+			}
+		}
+	}
+
 	private static void fillPresentations(ComponentPresentationCache cache,
 			String toolkitId,
 			IProgressMonitor monitor) throws Exception {
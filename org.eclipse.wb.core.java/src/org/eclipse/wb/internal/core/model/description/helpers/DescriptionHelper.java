@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.TreeSet;
 
 import javax.xml.XMLConstants;
 import javax.xml.transform.stream.StreamSource;
@@ -480,6 +481,21 @@ public final class DescriptionHelper {
 		return toolkitElements;
 	}
 
+	/**
+	 * @return the ids of toolkits which have "resourcePrefix" matching given qualified name of
+	 *         class or package.
+	 */
+	public static Set<String> getToolkitIds(String qualifiedName) {
+		String name = qualifiedName.replace('.', '/');
+		Set<String> toolkitIds = new TreeSet<>();
+		for (IConfigurationElement toolkitElement : getToolkitElements()) {
+			if (hasMatchingResourcePrefix(toolkitElement, name)) {
+				toolkitIds.add(ExternalFactoriesHelper.getRequiredAttribute(toolkitElement, "id"));
+			}
+		}
+		return toolkitIds;
+	}
+
 	/**
 	 * @return the {@link ToolkitDescription}'s for registered GUI toolkits.
 	 */
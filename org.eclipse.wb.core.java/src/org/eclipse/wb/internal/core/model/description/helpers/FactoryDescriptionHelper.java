@@ -35,11 +35,17 @@ import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 import org.eclipse.wb.internal.core.utils.state.EditorState;
 import org.eclipse.wb.internal.core.utils.state.EditorWarning;
 
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.dom.IMethodBinding;
 import org.eclipse.jdt.core.dom.ITypeBinding;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
@@ -63,6 +69,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.XMLConstants;
 import javax.xml.parsers.DocumentBuilder;
@@ -401,13 +408,10 @@ public class FactoryDescriptionHelper {
 		List<ICompilationUnit> factoryUnits = new ArrayList<>();
 		//
 		for (ICompilationUnit unit : thePackage.getCompilationUnits()) {
-			String typeName;
-			{
-				IType primaryType = unit.findPrimaryType();
-				if (primaryType == null) {
-					continue;
-				}
-				typeName = primaryType.getFullyQualifiedName();
+			FactoryUnitInfo unitInfo = getFactoryUnitInfo(unit);
+			String typeName = unitInfo.typeName();
+			if (typeName == null) {
+				continue;
 			}
 			// "Factory" suffix
 			if (typeName.endsWith("Factory")) {
@@ -417,13 +421,10 @@ public class FactoryDescriptionHelper {
 				}
 			}
 			// factory tag in source
-			{
-				String source = unit.getSource();
-				if (source != null && source.contains("@wbp.factory")) {
-					if (isFactoryClass(editor, typeName)) {
-						factoryUnits.add(unit);
-						continue;
-					}
+			if (unitInfo.hasFactoryTag()) {
+				if (isFactoryClass(editor, typeName)) {
+					factoryUnits.add(unit);
+					continue;
 				}
 			}
 			// factory description
@@ -478,6 +479,92 @@ public class FactoryDescriptionHelper {
 		}, false);
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Factory units
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private static final Map<IResource, FactoryUnitInfo> m_factoryUnits = new ConcurrentHashMap<>();
+	private static final IElementChangedListener m_factoryUnitsListener =
+			event -> ExecutionUtils.runIgnore(() -> processDelta(event.getDelta()));
+
+	/**
+	 * Starts listening for {@link IJavaElementDelta}s, to drop information of removed
+	 * {@link ICompilationUnit}s.
+	 */
+	public static void start() {
+		JavaCore.addElementChangedListener(m_factoryUnitsListener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Stops listening for {@link IJavaElementDelta}s and drops all information.
+	 */
+	public static void stop() {
+		JavaCore.removeElementChangedListener(m_factoryUnitsListener);
+		m_factoryUnits.clear();
+	}
+
+	/**
+	 * @return the {@link FactoryUnitInfo} for given {@link ICompilationUnit}. Information is
+	 *         remembered together with modification stamp of unit resource, so source of unit is
+	 *         read again only after it was changed.
+	 */
+	private static FactoryUnitInfo getFactoryUnitInfo(ICompilationUnit unit) throws Exception {
+		IResource resource = unit.getResource();
+		// unsaved content does not correspond to modification stamp
+		if (resource == null || unit.hasUnsavedChanges()) {
+			return createFactoryUnitInfo(unit, IResource.NULL_STAMP);
+		}
+		// use existing information, if unit was not changed
+		long stamp = resource.getModificationStamp();
+		FactoryUnitInfo unitInfo = m_factoryUnits.get(resource);
+		if (unitInfo == null || unitInfo.stamp() != stamp) {
+			unitInfo = createFactoryUnitInfo(unit, stamp);
+			m_factoryUnits.put(resource, unitInfo);
+		}
+		return unitInfo;
+	}
+
+	private static FactoryUnitInfo createFactoryUnitInfo(ICompilationUnit unit, long stamp)
+			throws Exception {
+		IType primaryType = unit.findPrimaryType();
+		if (primaryType == null) {
+			return new FactoryUnitInfo(stamp, null, false);
+		}
+		String source = unit.getSource();
+		boolean hasFactoryTag = source != null && source.contains(WBP_FACTORY_TAG);
+		return new FactoryUnitInfo(stamp, primaryType.getFullyQualifiedName(), hasFactoryTag);
+	}
+
+	/**
+	 * Name of primary type and presence of factory tag in single version of
+	 * {@link ICompilationUnit}.
+	 */
+	private record FactoryUnitInfo(long stamp, String typeName, boolean hasFactoryTag) {
+	}
+
+	/**
+	 * Drops information of {@link ICompilationUnit}s which resources don't exist anymore, when
+	 * {@link IJavaElement} is removed or project is closed. So recreated unit is not confused with
+	 * removed one, and map does not grow with units of removed projects.
+	 */
+	private static void processDelta(IJavaElementDelta delta) throws Exception {
+		if (m_factoryUnits.isEmpty()) {
+			return;
+		}
+		if (delta.getKind() == IJavaElementDelta.REMOVED
+				|| (delta.getFlags() & IJavaElementDelta.F_CLOSED) != 0) {
+			m_factoryUnits.keySet().removeIf(resource -> !resource.exists());
+			return;
+		}
+		if (delta.getElement().getElementType() == IJavaElement.COMPILATION_UNIT) {
+			return;
+		}
+		for (IJavaElementDelta childDelta : delta.getAffectedChildren()) {
+			processDelta(childDelta);
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Rules
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2023 Google, Inc.
+ * Copyright (c) 2011, 2026 Google, Inc.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -17,6 +17,7 @@ import org.eclipse.wb.core.model.AbstractComponentInfo;
 import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.core.model.broadcast.BroadcastSupport;
 import org.eclipse.wb.core.model.broadcast.DisplayEventListener;
+import org.eclipse.wb.core.model.broadcast.ObjectEventListener;
 import org.eclipse.wb.internal.core.DesignerPlugin;
 import org.eclipse.wb.internal.core.model.JavaInfoUtils;
 import org.eclipse.wb.internal.core.model.ModelMessages;
@@ -40,7 +41,8 @@ import org.eclipse.swt.graphics.Color;
 import org.eclipse.swt.graphics.GC;
 import org.eclipse.swt.graphics.Image;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -239,6 +241,7 @@ public abstract class AbstractLiveManager {
 	 *         creates one.
 	 */
 	protected final ILiveCacheEntry getCachedEntry() {
+		addEvictedEntriesListener();
 		// check for static cache (only for constructor creation)
 		if (m_component.getDescription().isCached()
 				&& m_component.getCreationSupport() instanceof ConstructorCreationSupport) {
@@ -277,8 +280,21 @@ public abstract class AbstractLiveManager {
 	// Caching
 	//
 	////////////////////////////////////////////////////////////////////////////
-	private static final Map<String, ILiveCacheEntry> m_staticCache = new HashMap<>();
+	/**
+	 * Maximal number of entries in each cache. Entries keep images and sometimes components, so
+	 * least recently used entries are removed when there are more of them.
+	 */
+	private static final int CACHE_SIZE = 256;
+	private static final Map<String, ILiveCacheEntry> m_staticCache = new LruCache();
 	private static final String EDITOR_CACHE_KEY = "LIVE_CACHE";
+	private static final String EVICTED_LISTENER_KEY = "LIVE_CACHE_EVICTED_LISTENER";
+	/**
+	 * Entries removed from caches, but not disposed yet. {@link AbstractComponentInfo#getImage()}
+	 * returns image of entry for component which is not added yet, and this image may be still used,
+	 * for example as feedback during drag. So, entries are disposed only after refresh, when creation
+	 * is finished.
+	 */
+	private static final List<ILiveCacheEntry> m_evictedEntries = new ArrayList<>();
 
 	/**
 	 * @return the static level cache {@link Map}.
@@ -295,9 +311,56 @@ public abstract class AbstractLiveManager {
 		Map<String, ILiveCacheEntry> cache =
 				(Map<String, ILiveCacheEntry>) m_component.getEditor().getGlobalValue(EDITOR_CACHE_KEY);
 		if (cache == null) {
-			cache = new HashMap<>();
+			cache = new LruCache();
 			m_component.getEditor().putGlobalValue(EDITOR_CACHE_KEY, cache);
 		}
 		return cache;
 	}
+
+	/**
+	 * Adds listener that disposes evicted {@link ILiveCacheEntry}'s after refresh of this editor.
+	 */
+	private void addEvictedEntriesListener() {
+		if (m_editorState.isLiveComponent() || m_editor.getGlobalValue(EVICTED_LISTENER_KEY) != null) {
+			return;
+		}
+		m_editor.putGlobalValue(EVICTED_LISTENER_KEY, Boolean.TRUE);
+		m_editorState.getBroadcast().addListener(null, new ObjectEventListener() {
+			@Override
+			public void refreshed() throws Exception {
+				disposeEvictedEntries();
+			}
+		});
+	}
+
+	/**
+	 * Disposes {@link ILiveCacheEntry}'s which were removed from caches.
+	 */
+	private static void disposeEvictedEntries() {
+		for (ILiveCacheEntry entry : m_evictedEntries) {
+			entry.dispose();
+		}
+		m_evictedEntries.clear();
+	}
+
+	/**
+	 * {@link Map} that removes least recently used {@link ILiveCacheEntry} when it has more than
+	 * {@link #CACHE_SIZE} entries. Removed entry is disposed after next refresh.
+	 */
+	private static final class LruCache extends LinkedHashMap<String, ILiveCacheEntry> {
+		private static final long serialVersionUID = 0L;
+
+		public LruCache() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, ILiveCacheEntry> eldest) {
+			if (size() > CACHE_SIZE) {
+				m_evictedEntries.add(eldest.getValue());
+				return true;
+			}
+			return false;
+		}
+	}
 }
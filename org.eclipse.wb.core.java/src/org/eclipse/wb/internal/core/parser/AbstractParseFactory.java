@@ -20,6 +20,7 @@ import org.eclipse.wb.core.model.association.EmptyAssociation;
 import org.eclipse.wb.core.model.association.FactoryParentAssociation;
 import org.eclipse.wb.core.model.association.ImplicitFactoryArgumentAssociation;
 import org.eclipse.wb.core.model.association.InvocationVoidAssociation;
+import org.eclipse.wb.internal.core.DesignerPlugin;
 import org.eclipse.wb.internal.core.model.JavaInfoUtils;
 import org.eclipse.wb.internal.core.model.creation.CastedSuperInvocationCreationSupport;
 import org.eclipse.wb.internal.core.model.creation.ConstructorCreationSupport;
@@ -44,6 +45,7 @@ import org.eclipse.wb.internal.core.model.nonvisual.NonVisualBeanContainerInfo;
 import org.eclipse.wb.internal.core.model.nonvisual.NonVisualBeanInfo;
 import org.eclipse.wb.internal.core.model.util.ScriptUtils;
 import org.eclipse.wb.internal.core.model.variable.VoidInvocationVariableSupport;
+import org.eclipse.wb.internal.core.preferences.IPreferenceConstants;
 import org.eclipse.wb.internal.core.utils.IOUtils2;
 import org.eclipse.wb.internal.core.utils.ast.AstEditor;
 import org.eclipse.wb.internal.core.utils.ast.AstNodeUtils;
@@ -52,6 +54,7 @@ import org.eclipse.wb.internal.core.utils.check.Assert;
 import org.eclipse.wb.internal.core.utils.exception.DesignerException;
 import org.eclipse.wb.internal.core.utils.exception.ICoreExceptionConstants;
 import org.eclipse.wb.internal.core.utils.exception.MultipleConstructorsError;
+import org.eclipse.wb.internal.core.utils.execution.PerformanceTracer;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 import org.eclipse.wb.internal.core.utils.jdt.core.ProjectUtils;
 import org.eclipse.wb.internal.core.utils.reflect.BundleClassLoader;
@@ -60,6 +63,7 @@ import org.eclipse.wb.internal.core.utils.reflect.IByteCodeProcessor;
 import org.eclipse.wb.internal.core.utils.reflect.IClassLoaderInitializer;
 import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
+import org.eclipse.wb.internal.core.utils.reflect.SharedLibraryClassLoader;
 import org.eclipse.wb.internal.core.utils.state.EditorState;
 import org.eclipse.wb.internal.core.utils.state.EditorWarning;
 
@@ -88,7 +92,9 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.text.MessageFormat;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 /**
@@ -736,7 +742,12 @@ public abstract class AbstractParseFactory implements IParseFactory {
 		String toolkitId = getToolkitId();
 		IParseRealm realm = getRealm();
 		// set ClassLoader
-		ClassLoader classLoader = getClassLoader(editor);
+		ClassLoader classLoader;
+		try (PerformanceTracer tracer = PerformanceTracer.start(
+				PerformanceTracer.CLASS_LOADER,
+				editor.getModelUnit().getElementName())) {
+			classLoader = getClassLoader(editor);
+		}
 		editorState.initialize(toolkitId, realm, classLoader);
 		initializeClassLoader(classLoader, toolkitId);
 		// configure
@@ -801,7 +812,56 @@ public abstract class AbstractParseFactory implements IParseFactory {
 	 */
 	protected ClassLoader createClassLoader_project(AstEditor editor,
 			CompositeClassLoader parentClassLoader) throws Exception {
-		return ProjectClassLoader.create(parentClassLoader, editor.getJavaProject());
+		IJavaProject javaProject = editor.getJavaProject();
+		if (canShareLibraries()) {
+			String id = getClass().getName() + ":" + getToolkitId();
+			ClassLoader sharedParentClassLoader = getSharedParentClassLoader(editor, id);
+			return ProjectClassLoader.createShared(id, sharedParentClassLoader, javaProject);
+		}
+		return ProjectClassLoader.create(parentClassLoader, javaProject);
+	}
+
+	/**
+	 * @return <code>true</code> if classes from JAR files can be loaded using
+	 *         {@link SharedLibraryClassLoader}. This is possible only if enabled in preferences and
+	 *         all "classPath-byteCode-processor" contributions of toolkit are marked as
+	 *         "projectOnly".
+	 */
+	private boolean canShareLibraries() {
+		if (!DesignerPlugin.getPreferences().getBoolean(IPreferenceConstants.P_EDITOR_SHARED_LIBRARIES)) {
+			return false;
+		}
+		for (IConfigurationElement toolkitElement : DescriptionHelper.getToolkitElements(getToolkitId())) {
+			IConfigurationElement[] contributorElements =
+					toolkitElement.getChildren("classPath-byteCode-processor");
+			for (IConfigurationElement contributorElement : contributorElements) {
+				if (!"true".equals(contributorElement.getAttribute("projectOnly"))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static final Map<String, ClassLoader> m_sharedParentClassLoaders = new HashMap<>();
+
+	/**
+	 * @return the parent {@link ClassLoader} for {@link SharedLibraryClassLoader}'s with given
+	 *         identifier. It is created once, with same contributions as parent {@link ClassLoader} of
+	 *         each editor, so shared libraries don't keep {@link ClassLoader} of the editor which
+	 *         loaded them first.
+	 */
+	private ClassLoader getSharedParentClassLoader(AstEditor editor, String id) throws Exception {
+		synchronized (m_sharedParentClassLoaders) {
+			ClassLoader classLoader = m_sharedParentClassLoaders.get(id);
+			if (classLoader == null) {
+				CompositeClassLoader parentClassLoader = createClassLoader_parent(editor);
+				initializeClassLoader_parent(editor, parentClassLoader);
+				classLoader = parentClassLoader;
+				m_sharedParentClassLoaders.put(id, classLoader);
+			}
+			return classLoader;
+		}
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -878,7 +938,7 @@ public abstract class AbstractParseFactory implements IParseFactory {
 						"org.eclipse.wb.core.java.classLoaderInitializers",
 						"initializer");
 		for (IConfigurationElement element : elements) {
-			if (ExternalFactoriesHelper.getRequiredAttribute(element, "toolkit").equals(toolkitId)) {
+			if (isClassLoaderInitializerFor(element, toolkitId)) {
 				IClassLoaderInitializer initializer =
 						ExternalFactoriesHelper.createExecutableExtension(element, "class");
 				initializer.initialize(classLoader);
@@ -896,7 +956,7 @@ public abstract class AbstractParseFactory implements IParseFactory {
 						"org.eclipse.wb.core.java.classLoaderInitializers",
 						"initializer");
 		for (IConfigurationElement element : elements) {
-			if (ExternalFactoriesHelper.getRequiredAttribute(element, "toolkit").equals(toolkitId)) {
+			if (isClassLoaderInitializerFor(element, toolkitId)) {
 				IClassLoaderInitializer initializer =
 						ExternalFactoriesHelper.createExecutableExtension(element, "class");
 				initializer.deinitialize(classLoader);
@@ -904,6 +964,16 @@ public abstract class AbstractParseFactory implements IParseFactory {
 		}
 	}
 
+	/**
+	 * @return <code>true</code> if given {@link IClassLoaderInitializer} element is for given
+	 *         toolkit, or for any toolkit.
+	 */
+	private static boolean isClassLoaderInitializerFor(IConfigurationElement element,
+			String toolkitId) {
+		String elementToolkitId = element.getAttribute("toolkit");
+		return elementToolkitId == null || elementToolkitId.equals(toolkitId);
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// IDescriptionVersionsProvider
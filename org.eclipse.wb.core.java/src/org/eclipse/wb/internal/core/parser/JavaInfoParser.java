@@ -71,6 +71,7 @@ import org.eclipse.wb.internal.core.utils.exception.DesignerExceptionUtils;
 import org.eclipse.wb.internal.core.utils.exception.ICoreExceptionConstants;
 import org.eclipse.wb.internal.core.utils.exception.NoEntryPointError;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.execution.PerformanceTracer;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
 import org.eclipse.wb.internal.core.utils.jdt.core.CodeUtils;
@@ -319,10 +320,14 @@ public final class JavaInfoParser implements IJavaInfoParseResolver {
 		parseVisitor.m_currentStatement = null;
 		try {
 			// visit execution flow
-			ExecutionFlowUtils.visit(
-					m_editorState.getTmp_visitingContext(),
-					m_editorState.getFlowDescription(),
-					parseVisitor);
+			try (PerformanceTracer tracer = PerformanceTracer.start(
+					PerformanceTracer.EVALUATE,
+					m_editor.getModelUnit().getElementName())) {
+				ExecutionFlowUtils.visit(
+						m_editorState.getTmp_visitingContext(),
+						m_editorState.getFlowDescription(),
+						parseVisitor);
+			}
 			GlobalState.setParsing(false);
 			m_editorState.setExecuting(false);
 			// now we visited execution flow, so lock ExecutionFlowDescription
@@ -44,6 +44,8 @@ IPreferenceConstants {
 		preferences.setDefault(P_EDITOR_MAX_DESIGN, false);
 		preferences.setDefault(P_EDITOR_FORMAT_ON_SAVE, false);
 		preferences.setDefault(P_EDITOR_GOTO_DEFINITION_ON_SELECTION, true);
+		preferences.setDefault(P_EDITOR_SHARED_LIBRARIES, false);
+		preferences.setDefault(P_EDITOR_PREWARM, V_EDITOR_PREWARM_LOW);
 		preferences.setDefault(P_EDITOR_TREE_DBL_CLICK_ACTION, V_EDITOR_TREE_OPEN_WIDGET_IN_EDITOR);
 		// highlight visited/executed lines
 		preferences.setDefault(P_HIGHLIGHT_VISITED, false);
@@ -20,6 +20,7 @@ import org.eclipse.wb.internal.core.utils.ast.binding.DesignerTypeBinding;
 import org.eclipse.wb.internal.core.utils.check.Assert;
 import org.eclipse.wb.internal.core.utils.exception.DesignerException;
 import org.eclipse.wb.internal.core.utils.exception.ICoreExceptionConstants;
+import org.eclipse.wb.internal.core.utils.execution.PerformanceTracer;
 import org.eclipse.wb.internal.core.utils.jdt.core.CodeUtils;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 
@@ -30,6 +31,7 @@ import org.eclipse.jdt.core.IPackageDeclaration;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
 import org.eclipse.jdt.core.compiler.IProblem;
+import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
@@ -89,7 +91,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
@@ -192,7 +193,7 @@ public final class AstEditor {
 	 *         that also covers same position.
 	 */
 	public ASTNode getEnclosingNode(String source) {
-		int position = getSource().indexOf(source);
+		int position = indexOf_noEx(source, 0);
 		Assert.isTrue(position != -1, "Can not find %s in %s.", source, getSource());
 		return AstNodeUtils.getEnclosingNode(m_astUnit, position);
 	}
@@ -251,6 +252,14 @@ public final class AstEditor {
 	 * Saves current source code into underlying {@link ICompilationUnit}.
 	 */
 	public void commitChanges() throws Exception {
+		try (PerformanceTracer tracer = PerformanceTracer.start(
+				PerformanceTracer.COMMIT,
+				m_modelUnit.getElementName())) {
+			commitChanges0();
+		}
+	}
+
+	private void commitChanges0() throws Exception {
 		// pre-listener
 		if (m_commitListener != null) {
 			m_commitListener.aboutToCommit();
@@ -505,7 +514,30 @@ public final class AstEditor {
 	 * @return the first occurrence of given sub-string, may be <code>-1</code> if not found.
 	 */
 	private int indexOf_noEx(String subString, int startPos) {
-		return m_document.get().indexOf(subString, startPos);
+		// search in Document directly, without copying its content into String
+		int length = m_document.getLength();
+		int subLength = subString.length();
+		int begin = Math.max(startPos, 0);
+		if (subLength == 0) {
+			return Math.min(begin, length);
+		}
+		try {
+			char firstChar = subString.charAt(0);
+			for (int i = begin; i <= length - subLength; i++) {
+				if (m_document.getChar(i) == firstChar) {
+					int j = 1;
+					while (j < subLength && m_document.getChar(i + j) == subString.charAt(j)) {
+						j++;
+					}
+					if (j == subLength) {
+						return i;
+					}
+				}
+			}
+		} catch (BadLocationException e) {
+			throw ReflectionUtils.propagate(e);
+		}
+		return -1;
 	}
 
 	/**
@@ -836,8 +868,19 @@ public final class AstEditor {
 	 */
 	public void replaceSubstring(final int oldStart, int oldLength, String replacement)
 			throws Exception {
+		boolean validNames = hasValidNames();
 		replaceSubstring_markRemovedComments(oldStart, oldLength);
-		List<Comment> commentList = getCommentList();
+		List<Comment> commentList = new ArrayList<>();
+		{
+			int documentLength = m_document.getLength();
+			for (Comment comment : DomGenerics.getCommentList(m_astUnit)) {
+				if (!(comment instanceof Javadoc)
+						&& AstNodeUtils.getSourceEnd(comment) > oldStart
+						&& isValidComment(comment, documentLength)) {
+					commentList.add(comment);
+				}
+			}
+		}
 		// replace text
 		//System.out.println("|" + m_document.get(oldStart, oldLength) + "| -> |" + replacement + "|");
 		m_document.replace(oldStart, oldLength, replacement);
@@ -847,6 +890,12 @@ public final class AstEditor {
 		final int oldEnd = oldStart + oldLength;
 		// prepare visitor
 		ASTVisitor visitor = new ASTVisitor(true) {
+			@Override
+			public boolean preVisit2(ASTNode node) {
+				// node before changed region is not affected, so its children too
+				return node.getStartPosition() < 0 || AstNodeUtils.getSourceEnd(node) > oldStart;
+			}
+
 			@Override
 			public void postVisit(ASTNode node) {
 				int position = node.getStartPosition();
@@ -886,10 +935,10 @@ public final class AstEditor {
 		m_astUnit.accept(visitor);
 		// update comments
 		for (Comment comment : commentList) {
-			if (!(comment instanceof Javadoc)) {
-				comment.accept(visitor);
-			}
+			comment.accept(visitor);
 		}
+		// only source ranges were changed
+		keepNames(validNames);
 	}
 
 	/**
@@ -915,29 +964,47 @@ public final class AstEditor {
 		comments.addAll(DomGenerics.getCommentList(m_astUnit));
 		// clean up
 		int documentLength = m_document.getLength();
-		for (Iterator<Comment> I = comments.iterator(); I.hasNext();) {
-			Comment comment = I.next();
-			if (comment.getProperty(REMOVED_COMMENT) != null) {
-				I.remove();
-				continue;
-			}
-			if (AstNodeUtils.getSourceBegin(comment) < 0
-					|| AstNodeUtils.getSourceEnd(comment) > documentLength) {
-				I.remove();
-			} else if (comment instanceof LineComment) {
-				if (!getSource(comment).startsWith("//")) {
-					I.remove();
-				}
-			} else if (comment instanceof BlockComment) {
-				if (!getSource(comment).startsWith("/*")) {
-					I.remove();
-				}
-			}
-		}
+		comments.removeIf(comment -> !isValidComment(comment, documentLength));
 		// protect from modifications
 		return Collections.unmodifiableList(comments);
 	}
 
+	/**
+	 * @return <code>true</code> if given {@link Comment} was not removed and still points on comment
+	 *         in source.
+	 */
+	private boolean isValidComment(Comment comment, int documentLength) {
+		if (comment.getProperty(REMOVED_COMMENT) != null) {
+			return false;
+		}
+		int begin = AstNodeUtils.getSourceBegin(comment);
+		if (begin < 0 || AstNodeUtils.getSourceEnd(comment) > documentLength) {
+			return false;
+		}
+		if (comment instanceof LineComment) {
+			return startsWith(begin, "//", documentLength);
+		}
+		if (comment instanceof BlockComment) {
+			return startsWith(begin, "/*", documentLength);
+		}
+		return true;
+	}
+
+	/**
+	 * @return <code>true</code> if source at given position starts with given prefix.
+	 */
+	private boolean startsWith(int position, String prefix, int documentLength) {
+		if (position + prefix.length() > documentLength) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length(); i++) {
+			if (getChar(position + i) != prefix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// ASTNode's replacement
@@ -1176,6 +1243,11 @@ public final class AstEditor {
 	// Unique names generation
 	//
 	////////////////////////////////////////////////////////////////////////////
+	private long m_namesModificationCount = -1;
+	private Map<String, Integer> m_variableNames;
+	private Set<String> m_methodNames;
+	private Set<String> m_typeNames;
+
 	/**
 	 * @return the unique variable name (for local variable or field).
 	 *
@@ -1192,16 +1264,25 @@ public final class AstEditor {
 	public String getUniqueVariableName(int position,
 			String baseName,
 			VariableDeclaration excludedVariable) {
-		// prepare declarations...
-		List<VariableDeclaration> declarations = new ArrayList<>();
-		if (position != -1) {
-			// ...visible + shadows
-			declarations.addAll(AstNodeUtils.getVariableDeclarationsVisibleAt(m_astUnit, position));
-			declarations.addAll(AstNodeUtils.getVariableDeclarationsAfter(m_astUnit, position));
-		} else {
-			// ...all
-			declarations.addAll(AstNodeUtils.getVariableDeclarationsAll(m_astUnit));
+		// all variables, use remembered names
+		if (position == -1) {
+			Map<String, Integer> variableNames = getVariableNames();
+			String excludedName =
+					excludedVariable != null && excludedVariable.getRoot() == m_astUnit
+							? excludedVariable.getName().getIdentifier()
+							: null;
+			return CodeUtils.generateUniqueName(baseName, name -> {
+				int count = variableNames.getOrDefault(name, 0);
+				if (name.equals(excludedName)) {
+					count--;
+				}
+				return count == 0;
+			});
 		}
+		// prepare declarations, visible + shadows
+		List<VariableDeclaration> declarations = new ArrayList<>();
+		declarations.addAll(AstNodeUtils.getVariableDeclarationsVisibleAt(m_astUnit, position));
+		declarations.addAll(AstNodeUtils.getVariableDeclarationsAfter(m_astUnit, position));
 		// exclude "excluded"
 		declarations.remove(excludedVariable);
 		// do generation
@@ -1220,7 +1301,7 @@ public final class AstEditor {
 	 */
 	public static String getUniqueVariableName(List<VariableDeclaration> declarations, String baseName) {
 		// prepare set of conflicting variables identifiers
-		final Set<String> existingIdentifiers = new TreeSet<>();
+		final Set<String> existingIdentifiers = new HashSet<>();
 		for (VariableDeclaration declaration : declarations) {
 			existingIdentifiers.add(declaration.getName().getIdentifier());
 		}
@@ -1232,37 +1313,155 @@ public final class AstEditor {
 	 * @return the unique method name.
 	 */
 	public String getUniqueMethodName(String baseName) {
-		// prepare set of methods names
-		final Set<String> existingMethods = new TreeSet<>();
-		m_astUnit.accept(new ASTVisitor() {
+		Set<String> existingMethods = getMethodNames();
+		return CodeUtils.generateUniqueName(baseName, name -> !existingMethods.contains(name));
+	}
+
+	/**
+	 * @return the unique inner type name.
+	 */
+	public String getUniqueTypeName(String baseName) {
+		Set<String> existingTypes = getTypeNames();
+		return CodeUtils.generateUniqueName(baseName, name -> !existingTypes.contains(name));
+	}
+
+	/**
+	 * Forgets remembered names, if {@link CompilationUnit} was modified since they were collected.
+	 * Any change of AST increments modification count of its {@link AST}. Edits done by this
+	 * {@link AstEditor} update remembered names in place and remember new modification count, so
+	 * names are collected again only if AST was modified directly.
+	 */
+	private void validateNames() {
+		long modificationCount = m_astUnit.getAST().modificationCount();
+		if (modificationCount != m_namesModificationCount) {
+			m_namesModificationCount = modificationCount;
+			m_variableNames = null;
+			m_methodNames = null;
+			m_typeNames = null;
+		}
+	}
+
+	/**
+	 * @return <code>true</code> if remembered names are same as names in current AST.
+	 */
+	private boolean hasValidNames() {
+		return m_namesModificationCount == m_astUnit.getAST().modificationCount();
+	}
+
+	/**
+	 * Remembers current modification count of {@link AST}, if names were valid before modification
+	 * that did not change any name.
+	 */
+	private void keepNames(boolean validNames) {
+		if (validNames) {
+			m_namesModificationCount = m_astUnit.getAST().modificationCount();
+		}
+	}
+
+	/**
+	 * Updates remembered names for declarations in given added or removed {@link ASTNode}.
+	 *
+	 * @param validNames
+	 *          the result of {@link #hasValidNames()} before modification, if <code>false</code>,
+	 *          then names will be collected again anyway.
+	 */
+	private void updateNames(boolean validNames, ASTNode node, final boolean added) {
+		if (!validNames) {
+			return;
+		}
+		if (m_variableNames != null) {
+			for (VariableDeclaration declaration : AstNodeUtils.getVariableDeclarationsAll(node)) {
+				String name = declaration.getName().getIdentifier();
+				m_variableNames.merge(name, added ? 1 : -1, Integer::sum);
+				m_variableNames.remove(name, 0);
+			}
+		}
+		node.accept(new ASTVisitor() {
 			@Override
 			public void endVisit(MethodDeclaration node) {
-				existingMethods.add(node.getName().getIdentifier());
+				if (m_methodNames != null) {
+					if (added) {
+						m_methodNames.add(node.getName().getIdentifier());
+					} else {
+						// same name may be declared by other method
+						m_methodNames = null;
+					}
+				}
 			}
 
 			@Override
 			public void endVisit(TypeDeclaration node) {
-				addMethodNames(existingMethods, AstNodeUtils.getTypeBinding(node));
+				if (added) {
+					if (m_typeNames != null) {
+						m_typeNames.add(node.getName().getIdentifier());
+					}
+					if (m_methodNames != null) {
+						addMethodNames(m_methodNames, AstNodeUtils.getTypeBinding(node));
+					}
+				} else {
+					m_typeNames = null;
+					m_methodNames = null;
+				}
 			}
 		});
-		// generate unique name
-		return CodeUtils.generateUniqueName(baseName, name -> !existingMethods.contains(name));
+		keepNames(true);
 	}
 
 	/**
-	 * @return the unique inner type name.
+	 * @return the identifiers of all {@link VariableDeclaration}'s, mapped to the count of
+	 *         declarations with such identifier.
 	 */
-	public String getUniqueTypeName(String baseName) {
-		// prepare set of methods names
-		final Set<String> existingTypes = new TreeSet<>();
-		m_astUnit.accept(new ASTVisitor() {
-			@Override
-			public void endVisit(TypeDeclaration node) {
-				existingTypes.add(node.getName().getIdentifier());
+	private Map<String, Integer> getVariableNames() {
+		validateNames();
+		if (m_variableNames == null) {
+			Map<String, Integer> variableNames = new HashMap<>();
+			for (VariableDeclaration declaration : AstNodeUtils.getVariableDeclarationsAll(m_astUnit)) {
+				variableNames.merge(declaration.getName().getIdentifier(), 1, Integer::sum);
 			}
-		});
-		// generate unique name
-		return CodeUtils.generateUniqueName(baseName, name -> !existingTypes.contains(name));
+			m_variableNames = variableNames;
+		}
+		return m_variableNames;
+	}
+
+	/**
+	 * @return the names of methods declared in {@link CompilationUnit} and inherited by its types.
+	 */
+	private Set<String> getMethodNames() {
+		validateNames();
+		if (m_methodNames == null) {
+			final Set<String> methodNames = new HashSet<>();
+			m_astUnit.accept(new ASTVisitor() {
+				@Override
+				public void endVisit(MethodDeclaration node) {
+					methodNames.add(node.getName().getIdentifier());
+				}
+
+				@Override
+				public void endVisit(TypeDeclaration node) {
+					addMethodNames(methodNames, AstNodeUtils.getTypeBinding(node));
+				}
+			});
+			m_methodNames = methodNames;
+		}
+		return m_methodNames;
+	}
+
+	/**
+	 * @return the names of types declared in {@link CompilationUnit}.
+	 */
+	private Set<String> getTypeNames() {
+		validateNames();
+		if (m_typeNames == null) {
+			final Set<String> typeNames = new HashSet<>();
+			m_astUnit.accept(new ASTVisitor() {
+				@Override
+				public void endVisit(TypeDeclaration node) {
+					typeNames.add(node.getName().getIdentifier());
+				}
+			});
+			m_typeNames = typeNames;
+		}
+		return m_typeNames;
 	}
 
 	/**
@@ -1286,8 +1485,18 @@ public final class AstEditor {
 	 * Sets new identifier of given {@link SimpleName}.
 	 */
 	public void setIdentifier(SimpleName simpleName, String newIdentifier) throws Exception {
+		boolean validNames = hasValidNames();
+		ASTNode declaration = simpleName.isDeclaration() ? simpleName.getParent() : null;
+		if (declaration != null) {
+			updateNames(validNames, declaration, false);
+		}
 		replaceSubstring(simpleName, newIdentifier);
 		simpleName.setIdentifier(newIdentifier);
+		if (declaration != null) {
+			updateNames(validNames, declaration, true);
+		} else {
+			keepNames(validNames);
+		}
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -1577,6 +1786,7 @@ public final class AstEditor {
 		Assert.isNotNull(lines);
 		// statement or method declaration required
 		Assert.isTrue(target.getBlock() != null || target.getStatement() != null);
+		boolean validNames = hasValidNames();
 		// prepare code generation constants
 		AstCodeGeneration generation = getGeneration();
 		String singleIndent = generation.getIndentation(1);
@@ -1611,7 +1821,7 @@ public final class AstEditor {
 				newStatement = getParser().parseStatement(position, source);
 				DomGenerics.statements(targetBlock).add(index + 1, newStatement);
 			}
-			//
+			updateNames(validNames, newStatement, true);
 			resolveImports(newStatement);
 			return newStatement;
 		} else {
@@ -1659,7 +1869,7 @@ public final class AstEditor {
 				newStatement = getParser().parseStatement(position, source);
 				DomGenerics.statements(targetBlock).add(newStatement);
 			}
-			//
+			updateNames(validNames, newStatement, true);
 			resolveImports(newStatement);
 			return newStatement;
 		}
@@ -1673,6 +1883,7 @@ public final class AstEditor {
 		if (AstNodeUtils.isDanglingNode(statement)) {
 			return;
 		}
+		boolean validNames = hasValidNames();
 		Block block = (Block) statement.getParent();
 		List<Statement> statements = DomGenerics.statements(block);
 		//
@@ -1695,6 +1906,7 @@ public final class AstEditor {
 			// remove statement and corresponding source
 			statements.remove(statement);
 			replaceSubstring(startIndex, endIndex - startIndex, "");
+			updateNames(validNames, statement, false);
 		}
 	}
 
@@ -2493,6 +2705,7 @@ public final class AstEditor {
 		TypeDeclaration targetType = target.getType();
 		BodyDeclaration targetDecl = target.getDeclaration();
 		Assert.isTrue(targetType != null || targetDecl != null);
+		boolean validNames = hasValidNames();
 		// prepare code generation constants
 		AstCodeGeneration generation = getGeneration();
 		String singleIndent = generation.getIndentation(1);
@@ -2528,7 +2741,7 @@ public final class AstEditor {
 				// add declaration
 				DomGenerics.bodyDeclarations(targetType).add(index + 1, newDeclaration);
 			}
-			//
+			updateNames(validNames, newDeclaration, true);
 			resolveImports(newDeclaration);
 			return newDeclaration;
 		}
@@ -2571,7 +2784,7 @@ public final class AstEditor {
 				// add declaration
 				DomGenerics.bodyDeclarations(targetType).add(newDeclaration);
 			}
-			//
+			updateNames(validNames, newDeclaration, true);
 			resolveImports(newDeclaration);
 			return newDeclaration;
 		}
@@ -2581,6 +2794,7 @@ public final class AstEditor {
 	 * Removes given {@link BodyDeclaration}.
 	 */
 	public void removeBodyDeclaration(BodyDeclaration declaration) throws Exception {
+		boolean validNames = hasValidNames();
 		List<BodyDeclaration> declarations;
 		if (declaration.getParent() instanceof TypeDeclaration) {
 			TypeDeclaration typeDeclaration = (TypeDeclaration) declaration.getParent();
@@ -2615,6 +2829,7 @@ public final class AstEditor {
 		// remove declaration and corresponding source
 		declarations.remove(declaration);
 		replaceSubstring(startIndex, endIndex - startIndex, "");
+		updateNames(validNames, declaration, false);
 	}
 
 	/**
@@ -2684,6 +2899,7 @@ public final class AstEditor {
 	private void removeVariableDeclaration(ASTNode parent,
 			List<VariableDeclarationFragment> fragments,
 			int index) throws Exception {
+		boolean validNames = hasValidNames();
 		VariableDeclarationFragment declaration = fragments.get(index);
 		Assert.isTrue(
 				fragments.size() > 1,
@@ -2708,6 +2924,7 @@ public final class AstEditor {
 		fragments.remove(index);
 		// remove source
 		replaceSubstring(sourceBegin, sourceEnd - sourceBegin, "");
+		updateNames(validNames, declaration, false);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -3109,6 +3326,7 @@ public final class AstEditor {
 		if (!m_resolveImports) {
 			return;
 		}
+		boolean validNames = hasValidNames();
 		node.accept(new AstVisitorEx() {
 			@Override
 			public boolean visitEx(QualifiedName qualifiedName) throws Exception {
@@ -3134,6 +3352,8 @@ public final class AstEditor {
 				return true;
 			}
 		});
+		// only references to types and imports were changed
+		keepNames(validNames);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
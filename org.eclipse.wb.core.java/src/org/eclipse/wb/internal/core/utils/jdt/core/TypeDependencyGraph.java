@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.jdt.core;
+
+import org.eclipse.wb.internal.core.utils.IOUtils2;
+import org.eclipse.wb.internal.core.utils.ast.AstNodeUtils;
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.IScanner;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.QualifiedName;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.SimpleType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Workspace level graph of references from {@link ICompilationUnit}s to types, shared by all
+ * editors.
+ * <p>
+ * References of each unit are remembered together with modification stamp of its resource, so unit
+ * is parsed again only after it was changed. Resolved references depend also on other units and on
+ * classpath, so references are dropped using {@link IJavaElementDelta}s:
+ * <ul>
+ * <li>all references, when classpath of project is changed, project is opened, closed or removed,
+ * or when unit is added or removed, i.e. when set of types is changed;</li>
+ * <li>references to types declared in changed unit, and references of units which have unresolved
+ * types, when content of unit is changed.</li>
+ * </ul>
+ * Listener for {@link IJavaElementDelta}s is added and removed by plugin activator, using
+ * {@link #start()} and {@link #stop()}.
+ *
+ * @coverage core.util.jdt
+ */
+public final class TypeDependencyGraph {
+	private static final Map<IResource, Node> m_nodes = new ConcurrentHashMap<>();
+	private static final IElementChangedListener m_listener =
+			event -> ExecutionUtils.runIgnore(() -> processDelta(event.getDelta()));
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private TypeDependencyGraph() {
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Life cycle
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Starts listening for {@link IJavaElementDelta}s.
+	 */
+	public static void start() {
+		JavaCore.addElementChangedListener(m_listener, ElementChangedEvent.POST_CHANGE);
+	}
+
+	/**
+	 * Stops listening for {@link IJavaElementDelta}s and drops all references.
+	 */
+	public static void stop() {
+		JavaCore.removeElementChangedListener(m_listener);
+		m_nodes.clear();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the fully qualified names of types referenced in given {@link ICompilationUnit}, in
+	 *         order of their first reference.
+	 */
+	public static Set<String> getReferencedTypes(ICompilationUnit modelUnit) throws Exception {
+		// unsaved content does not correspond to modification stamp
+		if (modelUnit.hasUnsavedChanges()) {
+			return collectReferencedTypes(modelUnit);
+		}
+		// use existing node, if unit was not changed
+		IResource resource = modelUnit.getResource();
+		long stamp = resource.getModificationStamp();
+		Node node = m_nodes.get(resource);
+		if (node == null || node.m_stamp != stamp) {
+			node = collectReferencedTypes(modelUnit, stamp);
+			m_nodes.put(resource, node);
+		}
+		return node.m_types;
+	}
+
+	/**
+	 * @return the hash of tokens in saved content of given {@link IFile}. Changes of formatting and
+	 *         comments don't change compiled types, so they also don't change this hash.
+	 */
+	public static int getTokensHash(IFile file) throws Exception {
+		IScanner scanner =
+				ToolFactory.createScanner(false, false, false, JavaCore.latestSupportedJavaVersion());
+		scanner.setSource(IOUtils2.readString(file).toCharArray());
+		int hash = 1;
+		int token;
+		while ((token = scanner.getNextToken()) != ITerminalSymbols.TokenNameEOF) {
+			hash = 31 * hash + token;
+			hash = 31 * hash + Arrays.hashCode(scanner.getCurrentTokenSource());
+		}
+		return hash;
+	}
+
+	/**
+	 * @return the fully qualified names of types referenced in given {@link ICompilationUnit}.
+	 */
+	private static Set<String> collectReferencedTypes(ICompilationUnit modelUnit) throws Exception {
+		return collectReferencedTypes(modelUnit, IResource.NULL_STAMP).m_types;
+	}
+
+	/**
+	 * @return the {@link Node} with types referenced in given {@link ICompilationUnit}.
+	 */
+	private static Node collectReferencedTypes(ICompilationUnit modelUnit, long stamp)
+			throws Exception {
+		final Set<String> types = new LinkedHashSet<>();
+		final boolean[] unresolved = new boolean[1];
+		CompilationUnit astUnit = CodeUtils.parseCompilationUnit(modelUnit);
+		astUnit.accept(new ASTVisitor() {
+			@Override
+			public void endVisit(QualifiedName node) {
+				addType(node.resolveTypeBinding());
+			}
+
+			@Override
+			public void endVisit(SimpleName node) {
+				addType(node.resolveTypeBinding());
+			}
+
+			@Override
+			public void endVisit(SimpleType node) {
+				ITypeBinding binding = node.resolveBinding();
+				if (binding == null || binding.isRecovered()) {
+					unresolved[0] = true;
+				}
+			}
+
+			private void addType(final ITypeBinding binding) {
+				if (binding == null) {
+					return;
+				}
+				ExecutionUtils.runIgnore(() -> {
+					String typeName = AstNodeUtils.getFullyQualifiedName(binding, false);
+					if (typeName.indexOf('.') != -1) {
+						types.add(typeName);
+					}
+				});
+			}
+		});
+		return new Node(stamp, Collections.unmodifiableSet(types), unresolved[0]);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Invalidation
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Drops references which may be changed by given {@link IJavaElementDelta}.
+	 */
+	private static void processDelta(IJavaElementDelta delta) throws Exception {
+		if (m_nodes.isEmpty()) {
+			return;
+		}
+		IJavaElement element = delta.getElement();
+		int flags = delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_PROJECT :
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_OPENED
+								| IJavaElementDelta.F_CLOSED
+								| IJavaElementDelta.F_CLASSPATH_CHANGED
+								| IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					m_nodes.clear();
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT :
+			case IJavaElement.PACKAGE_FRAGMENT :
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					m_nodes.clear();
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT :
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					m_nodes.clear();
+				} else if ((flags & IJavaElementDelta.F_CONTENT) != 0) {
+					unitChanged((ICompilationUnit) element);
+				}
+				return;
+		}
+		for (IJavaElementDelta childDelta : delta.getAffectedChildren()) {
+			processDelta(childDelta);
+		}
+	}
+
+	/**
+	 * Drops references of units, which reference types of given changed {@link ICompilationUnit}
+	 * or have unresolved types.
+	 */
+	private static void unitChanged(ICompilationUnit unit) throws Exception {
+		Set<String> unitTypes = new HashSet<>();
+		for (IType type : unit.getAllTypes()) {
+			unitTypes.add(type.getFullyQualifiedName('.'));
+		}
+		m_nodes.values().removeIf(
+				node -> node.m_unresolved || !Collections.disjoint(node.m_types, unitTypes));
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Node
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Referenced types of single version of {@link ICompilationUnit}.
+	 */
+	private static final class Node {
+		private final long m_stamp;
+		private final Set<String> m_types;
+		private final boolean m_unresolved;
+
+		public Node(long stamp, Set<String> types, boolean unresolved) {
+			m_stamp = stamp;
+			m_types = types;
+			m_unresolved = unresolved;
+		}
+	}
+}
@@ -67,6 +67,42 @@ public class ProjectClassLoader extends URLClassLoader {
 		return new ProjectClassLoader(urls, parentClassLoader, javaProject);
 	}
 
+	/**
+	 * @return the {@link ProjectClassLoader} for given {@link IJavaProject}, which loads classes from
+	 *         JAR files using {@link SharedLibraryClassLoader} and only classes from folders itself.
+	 *         Note, that classes from JAR files can not see classes from folders, and
+	 *         {@link IByteCodeProcessor}'s and non-abstract classes are applied only to classes from
+	 *         folders.
+	 *
+	 * @param id
+	 *          the identifier of the parent {@link ClassLoader}, see
+	 *          {@link SharedLibraryClassLoader#acquire(String, ClassLoader, URL[])}.
+	 */
+	public static ProjectClassLoader createShared(String id,
+			ClassLoader parentClassLoader,
+			IJavaProject javaProject) throws Exception {
+		List<URL> libraryUrls = new ArrayList<>();
+		List<URL> folderUrls = new ArrayList<>();
+		for (URL url : getClasspathUrls(javaProject)) {
+			if (SharedLibraryClassLoader.isLibrary(url)) {
+				libraryUrls.add(url);
+			} else {
+				folderUrls.add(url);
+			}
+		}
+		SharedLibraryClassLoader libraryClassLoader =
+				SharedLibraryClassLoader.acquire(
+						id,
+						parentClassLoader,
+						libraryUrls.toArray(new URL[libraryUrls.size()]));
+		ProjectClassLoader classLoader =
+				new ProjectClassLoader(folderUrls.toArray(new URL[folderUrls.size()]),
+						libraryClassLoader,
+						javaProject);
+		classLoader.m_libraryClassLoader = libraryClassLoader;
+		return classLoader;
+	}
+
 	/**
 	 * @return {@link URL}s for each classpath entry of given {@link IJavaProject}.
 	 */
@@ -327,6 +363,10 @@ public class ProjectClassLoader extends URLClassLoader {
 	 */
 	private final Set<String> m_nonAbstractClasses = new TreeSet<>();
 	private final IJavaProject m_javaProject;
+	/**
+	 * The {@link SharedLibraryClassLoader} used by this loader, may be <code>null</code>.
+	 */
+	private SharedLibraryClassLoader m_libraryClassLoader;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -369,6 +409,16 @@ public class ProjectClassLoader extends URLClassLoader {
 		return m_javaProject;
 	}
 
+	/**
+	 * Releases {@link SharedLibraryClassLoader} used by this loader.
+	 */
+	public void dispose() {
+		if (m_libraryClassLoader != null) {
+			m_libraryClassLoader.release();
+			m_libraryClassLoader = null;
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Loading
@@ -406,21 +456,24 @@ public class ProjectClassLoader extends URLClassLoader {
 					}
 				}
 				// return (possibly modified) class
-				ensureCodeSource();
-				return defineClass(className, bytes, 0, bytes.length, m_fakeCodeSource);
+				return defineClass(className, bytes, 0, bytes.length, getCodeSource());
 			} catch (Throwable e) {
 				throw new ClassNotFoundException("Error loading class " + className, e);
 			}
 		}
 	}
 
-	private static void ensureCodeSource() {
+	/**
+	 * @return the fake {@link CodeSource} for classes loaded by designer {@link ClassLoader}'s.
+	 */
+	static CodeSource getCodeSource() {
 		if (m_fakeCodeSource == null) {
 			try {
 				m_fakeCodeSource = new CodeSource(new URL("file:/"), (Certificate[]) null);
 			} catch (Throwable e) {
 			}
 		}
+		return m_fakeCodeSource;
 	}
 
 	/**
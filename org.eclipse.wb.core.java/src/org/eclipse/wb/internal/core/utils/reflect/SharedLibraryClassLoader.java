@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.reflect;
+
+import org.eclipse.wb.internal.core.utils.IOUtils2;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.swing.UIDefaults;
+import javax.swing.UIManager;
+
+/**
+ * {@link URLClassLoader} for JAR files of project classpath, shared between all
+ * {@link ProjectClassLoader}'s with same JARs and parent.
+ * <p>
+ * Loaders are reference counted. Each {@link #acquire(String, ClassLoader, URL[])} should be
+ * paired with {@link #release()}, loader is closed when last reference is released.
+ *
+ * @coverage core.util
+ */
+public final class SharedLibraryClassLoader extends URLClassLoader {
+	private static final Map<String, SharedLibraryClassLoader> m_loaders = new HashMap<>();
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @param id
+	 *          the identifier of the parent {@link ClassLoader}, loaders with same identifier should
+	 *          have equivalent parents.
+	 * @param parent
+	 *          the parent {@link ClassLoader}, used only if there is no loader for given JARs yet.
+	 *          It is kept as long as this loader, so it should not be {@link ClassLoader} of some
+	 *          editor.
+	 * @param urls
+	 *          the {@link URL}s of JAR files.
+	 *
+	 * @return the existing or new {@link SharedLibraryClassLoader} for given JARs.
+	 */
+	public static synchronized SharedLibraryClassLoader acquire(String id,
+			ClassLoader parent,
+			URL[] urls) throws Exception {
+		String key = getKey(id, urls);
+		SharedLibraryClassLoader loader = m_loaders.get(key);
+		if (loader == null) {
+			loader = new SharedLibraryClassLoader(key, urls, parent);
+			m_loaders.put(key, loader);
+		}
+		loader.m_references++;
+		return loader;
+	}
+
+	/**
+	 * @return the key that includes identifier, location, size and modification time of each JAR.
+	 */
+	private static String getKey(String id, URL[] urls) throws Exception {
+		StringBuilder key = new StringBuilder(id);
+		for (URL url : urls) {
+			File file = new File(url.toURI());
+			key.append('|');
+			key.append(file.getPath());
+			key.append(':');
+			key.append(file.length());
+			key.append(':');
+			key.append(file.lastModified());
+		}
+		return key.toString();
+	}
+
+	/**
+	 * @return <code>true</code> if given {@link URL} is JAR file which can be loaded using
+	 *         {@link SharedLibraryClassLoader}.
+	 */
+	static boolean isLibrary(URL url) throws Exception {
+		return new File(url.toURI()).isFile();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Instance fields
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private final String m_key;
+	private int m_references;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private SharedLibraryClassLoader(String key, URL[] urls, ClassLoader parent) {
+		super(urls, parent);
+		m_key = key;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Life cycle
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Releases reference on this loader, closes it if there are no other references.
+	 */
+	public void release() {
+		synchronized (SharedLibraryClassLoader.class) {
+			if (--m_references != 0) {
+				return;
+			}
+			m_loaders.remove(m_key);
+		}
+		cleanUpUIManager();
+		try {
+			close();
+		} catch (Throwable e) {
+		}
+	}
+
+	/**
+	 * Removes {@link Class}'s loaded by this loader from {@link UIManager} to prevent memory leak.
+	 */
+	private void cleanUpUIManager() {
+		UIDefaults defaults = UIManager.getDefaults();
+		for (Iterator<?> I = defaults.values().iterator(); I.hasNext();) {
+			Object value = I.next();
+			if (value instanceof Class<?> clazz && clazz.getClassLoader() == this) {
+				I.remove();
+			}
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Loading
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	protected Class<?> findClass(String className) throws ClassNotFoundException {
+		String classResourceName = className.replace('.', '/') + ".class";
+		URL resource = findResource(classResourceName);
+		if (resource == null) {
+			throw new ClassNotFoundException(className);
+		}
+		try {
+			byte[] bytes = IOUtils2.readBytes(resource.openStream());
+			// define package
+			{
+				String pkgName = StringUtils.substringBeforeLast(className, ".");
+				if (getDefinedPackage(pkgName) == null) {
+					definePackage(pkgName, null, null, null, null, null, null, null);
+				}
+			}
+			// define class
+			return defineClass(className, bytes, 0, bytes.length, ProjectClassLoader.getCodeSource());
+		} catch (Throwable e) {
+			throw new ClassNotFoundException("Error loading class " + className, e);
+		}
+	}
+}
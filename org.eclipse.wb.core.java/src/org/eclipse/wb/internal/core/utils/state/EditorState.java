@@ -27,6 +27,7 @@ import org.eclipse.wb.internal.core.utils.check.Assert;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.core.utils.reflect.CompositeClassLoader;
+import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 
 import org.eclipse.jdt.core.dom.ASTNode;
@@ -223,10 +224,26 @@ public final class EditorState {
 				AbstractParseFactory.deinitializeClassLoader(m_editorLoader, m_toolkitId);
 			}
 		});
+		dispose_ProjectClassLoader(m_editorLoader);
 		// done
 		m_disposed = true;
 	}
 
+	/**
+	 * Disposes {@link ProjectClassLoader}'s of given {@link ClassLoader}, so shared libraries are
+	 * released.
+	 */
+	private static void dispose_ProjectClassLoader(ClassLoader loader) {
+		if (loader instanceof ProjectClassLoader projectClassLoader) {
+			projectClassLoader.dispose();
+		}
+		if (loader instanceof CompositeClassLoader compositeClassLoader) {
+			for (ClassLoader classLoader : compositeClassLoader.getClassLoaders()) {
+				dispose_ProjectClassLoader(classLoader);
+			}
+		}
+	}
+
 	/**
 	 * Removes cached {@link Class}-s to prevent memory leak and {@link ClassCastException}'s.
 	 * <p>
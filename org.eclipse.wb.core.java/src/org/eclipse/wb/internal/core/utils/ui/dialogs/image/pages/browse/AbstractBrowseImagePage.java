@@ -50,6 +50,7 @@ import org.apache.commons.lang3.ArrayUtils;
 public abstract class AbstractBrowseImagePage extends AbstractImagePage {
 	private final TreeViewer m_viewer;
 	private final IImageRoot m_root;
+	private final ImageThumbnailLoader m_thumbnailLoader;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -67,6 +68,7 @@ public abstract class AbstractBrowseImagePage extends AbstractImagePage {
 		addListener(SWT.Dispose, new Listener() {
 			@Override
 			public void handleEvent(Event event) {
+				m_thumbnailLoader.dispose();
 				m_root.dispose();
 			}
 		});
@@ -75,6 +77,7 @@ public abstract class AbstractBrowseImagePage extends AbstractImagePage {
 			m_viewer = new TreeViewer(this, SWT.BORDER | SWT.H_SCROLL | SWT.V_SCROLL);
 			GridDataFactory.create(m_viewer.getTree()).hintC(50, 20).grab().fill();
 			m_viewer.getTree().setData("org.eclipse.jface.viewers.TreeViewer", m_viewer);
+			m_thumbnailLoader = new ImageThumbnailLoader(m_viewer);
 			// set providers
 			m_viewer.setContentProvider(new ImageContentProvider());
 			m_viewer.setLabelProvider(new ImageLabelProvider());
@@ -191,9 +194,12 @@ public abstract class AbstractBrowseImagePage extends AbstractImagePage {
 	 *
 	 * @author scheglov_ke
 	 */
-	private static final class ImageLabelProvider extends LabelProvider {
+	private final class ImageLabelProvider extends LabelProvider {
 		@Override
 		public Image getImage(Object element) {
+			if (element instanceof IImageResource resource) {
+				return m_thumbnailLoader.getThumbnail(resource);
+			}
 			if (element instanceof IImageElement imageElement) {
 				return imageElement.getImage();
 			}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse;
+
+import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IImageResource;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.ImageData;
+import org.eclipse.swt.widgets.Display;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Loads thumbnails of {@link IImageResource}'s shown in {@link TreeViewer} of
+ * {@link AbstractBrowseImagePage}.
+ * <p>
+ * Images are decoded and scaled down in background {@link Job}, in order in which they were
+ * requested, i.e. in order of tree items. Viewer is updated when each batch of thumbnails is
+ * ready, so expanding container with many images does not block UI thread.
+ *
+ * @coverage core.ui
+ */
+public final class ImageThumbnailLoader {
+	private static final int THUMBNAIL_SIZE = 16;
+	private static final int BATCH_SIZE = 32;
+	private final TreeViewer m_viewer;
+	private final Display m_display;
+	private final Queue<IImageResource> m_queue = new ConcurrentLinkedQueue<>();
+	private final Set<IImageResource> m_requested = new HashSet<>();
+	private final Map<IImageResource, Image> m_thumbnails = new HashMap<>();
+	private final Set<IImageResource> m_notDecoded = new HashSet<>();
+	private final Job m_job;
+	private boolean m_disposed;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	public ImageThumbnailLoader(TreeViewer viewer) {
+		m_viewer = viewer;
+		m_display = viewer.getControl().getDisplay();
+		m_job = new Job("Loading image thumbnails") {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				return loadThumbnails(monitor);
+			}
+		};
+		m_job.setSystem(true);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the thumbnail for given {@link IImageResource}, or <code>null</code> if it is not
+	 *         loaded yet. In last case loading is scheduled and viewer is updated when done.
+	 */
+	public Image getThumbnail(IImageResource resource) {
+		if (m_disposed) {
+			return null;
+		}
+		if (m_notDecoded.contains(resource)) {
+			return resource.getImage();
+		}
+		Image thumbnail = m_thumbnails.get(resource);
+		if (thumbnail == null && m_requested.add(resource)) {
+			m_queue.add(resource);
+			m_job.schedule();
+		}
+		return thumbnail;
+	}
+
+	/**
+	 * Cancels loading and disposes loaded thumbnails. Waits for {@link IImageResource} which is
+	 * decoded now, so caller may dispose resources used by it.
+	 */
+	public void dispose() {
+		m_disposed = true;
+		m_queue.clear();
+		m_job.cancel();
+		ExecutionUtils.runIgnore(m_job::join);
+		for (Image thumbnail : m_thumbnails.values()) {
+			thumbnail.dispose();
+		}
+		m_thumbnails.clear();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Loading
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Decodes queued {@link IImageResource}'s and sends them to UI thread in batches.
+	 */
+	private IStatus loadThumbnails(IProgressMonitor monitor) {
+		Map<IImageResource, ImageData> batch = new HashMap<>();
+		IImageResource resource;
+		while ((resource = m_queue.poll()) != null) {
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			batch.put(resource, getThumbnailData(resource));
+			if (batch.size() == BATCH_SIZE) {
+				showThumbnails(batch);
+				batch = new HashMap<>();
+			}
+		}
+		if (!batch.isEmpty()) {
+			showThumbnails(batch);
+		}
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * Creates thumbnails for decoded {@link ImageData}'s and updates viewer.
+	 */
+	private void showThumbnails(Map<IImageResource, ImageData> batch) {
+		m_display.asyncExec(() -> {
+			if (m_disposed || m_viewer.getControl().isDisposed()) {
+				return;
+			}
+			List<IImageResource> resources = new ArrayList<>(batch.size());
+			batch.forEach((resource, data) -> {
+				if (data != null) {
+					m_thumbnails.put(resource, new Image(m_display, data));
+				} else {
+					// not supported in background, use image of resource
+					m_notDecoded.add(resource);
+				}
+				resources.add(resource);
+			});
+			m_viewer.update(resources.toArray(), null);
+		});
+	}
+
+	/**
+	 * @return the {@link ImageData} of thumbnail, or <code>null</code> if resource can not be
+	 *         decoded in background.
+	 */
+	private static ImageData getThumbnailData(IImageResource resource) {
+		ImageData data;
+		try (InputStream inputStream = resource.getContents()) {
+			if (inputStream == null) {
+				return null;
+			}
+			data = new ImageData(inputStream);
+		} catch (Throwable e) {
+			return null;
+		}
+		// scale down, keep aspect ratio
+		int maxSize = Math.max(data.width, data.height);
+		if (maxSize > THUMBNAIL_SIZE) {
+			int width = Math.max(1, data.width * THUMBNAIL_SIZE / maxSize);
+			int height = Math.max(1, data.height * THUMBNAIL_SIZE / maxSize);
+			data = data.scaledTo(width, height);
+		}
+		return data;
+	}
+}
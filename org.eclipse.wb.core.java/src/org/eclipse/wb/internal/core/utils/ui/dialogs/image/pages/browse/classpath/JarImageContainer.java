@@ -143,6 +143,15 @@ final class JarImageContainer implements IClasspathImageContainer {
 		m_nameToImageInfo = null;
 	}
 
+	/**
+	 * @return the {@link InputStream} for {@link ZipEntry} with given name, may be <code>null</code>.
+	 *         Can be used from non-UI thread.
+	 */
+	InputStream getContents(String entryName) throws Exception {
+		ZipEntry entry = m_jarFile.getEntry(entryName);
+		return entry != null ? m_jarFile.getInputStream(entry) : null;
+	}
+
 	/**
 	 * @return the {@link Image} for {@link ZipEntry} with given name.
 	 */
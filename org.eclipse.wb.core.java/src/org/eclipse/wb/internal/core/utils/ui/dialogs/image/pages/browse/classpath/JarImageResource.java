@@ -18,6 +18,8 @@ import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.II
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.swt.graphics.Image;
 
+import java.io.InputStream;
+
 /**
  * implementation of {@link IImageResource} for single file in jar.
  *
@@ -57,6 +59,23 @@ final class JarImageResource extends AbstractJarImageElement implements IImageRe
 	////////////////////////////////////////////////////////////////////////////
 	@Override
 	public ImageInfo getImageInfo() {
-		return m_jarContainer.getImage(m_entryPath.toOSString().replace('\\', '/'));
+		return m_jarContainer.getImage(getEntryName());
+	}
+
+	@Override
+	public InputStream getContents() throws Exception {
+		return m_jarContainer.getContents(getEntryName());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Internal
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the name of {@link java.util.zip.ZipEntry} in jar.
+	 */
+	private String getEntryName() {
+		return m_entryPath.toOSString().replace('\\', '/');
 	}
 }
@@ -84,7 +84,7 @@ final class SrcImageResource implements IImageResource {
 				// load image
 				Image image;
 				try {
-					InputStream inputStream = m_file.getContents();
+					InputStream inputStream = getContents();
 					try {
 						image = new Image(Display.getCurrent(), inputStream);
 					} finally {
@@ -101,6 +101,11 @@ final class SrcImageResource implements IImageResource {
 		return m_imageInfo;
 	}
 
+	@Override
+	public InputStream getContents() throws Exception {
+		return m_file.getContents();
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Internal access
@@ -14,6 +14,8 @@ package org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model;
 
 import org.eclipse.wb.internal.core.utils.ui.dialogs.image.ImageInfo;
 
+import java.io.InputStream;
+
 /**
  * {@link IImageElement} for {@link ImageInfo}.
  *
@@ -25,4 +27,13 @@ public interface IImageResource extends IImageElement {
 	 * @return the {@link ImageInfo} for this resource.
 	 */
 	ImageInfo getImageInfo();
+
+	/**
+	 * @return the {@link InputStream} with contents of this resource, or <code>null</code> if not
+	 *         supported. Unlike {@link #getImageInfo()}, may be called from non-UI thread.
+	 * @since 1.16
+	 */
+	default InputStream getContents() throws Exception {
+		return null;
+	}
 }
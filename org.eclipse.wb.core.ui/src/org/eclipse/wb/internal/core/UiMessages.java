@@ -28,6 +28,11 @@ public class UiMessages extends NLS {
 	public static String MainPreferencePage_formattingLink;
 	public static String MainPreferencePage_goInSourceOnSelection;
 	public static String MainPreferencePage_maximizeEditorOndesign;
+	public static String MainPreferencePage_prewarm;
+	public static String MainPreferencePage_prewarmDisabled;
+	public static String MainPreferencePage_prewarmLow;
+	public static String MainPreferencePage_prewarmNormal;
+	public static String MainPreferencePage_sharedLibraries;
 	public static String MainPreferencePage_showDebugOnConsole;
 	public static String MainPreferencePage_supportNonVisualBeans;
 	public static String MainPreferencePage_syncDelay;
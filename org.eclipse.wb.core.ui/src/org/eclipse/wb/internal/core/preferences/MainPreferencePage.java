@@ -122,6 +122,21 @@ IPreferenceConstants {
 							"" + V_EDITOR_TREE_INITIATE_RENAME},},
 						getFieldEditorParent());
 		addField(widgetTreeDblClickActionEditor);
+		ComboFieldEditor prewarmEditor =
+				new ComboFieldEditor(P_EDITOR_PREWARM,
+						UiMessages.MainPreferencePage_prewarm,
+						new String[][]{
+					new String[]{
+							UiMessages.MainPreferencePage_prewarmDisabled,
+							"" + V_EDITOR_PREWARM_DISABLED},
+					new String[]{
+							UiMessages.MainPreferencePage_prewarmLow,
+							"" + V_EDITOR_PREWARM_LOW},
+					new String[]{
+							UiMessages.MainPreferencePage_prewarmNormal,
+							"" + V_EDITOR_PREWARM_NORMAL},},
+						getFieldEditorParent());
+		addField(prewarmEditor);
 		//
 		addField(new BooleanFieldEditor(P_EDITOR_RECOGNIZE_GUI,
 				UiMessages.MainPreferencePage_associateWithWB,
@@ -135,6 +150,9 @@ IPreferenceConstants {
 		addField(new BooleanFieldEditor(P_EDITOR_GOTO_DEFINITION_ON_SELECTION,
 				UiMessages.MainPreferencePage_goInSourceOnSelection,
 				getFieldEditorParent()));
+		addField(new BooleanFieldEditor(P_EDITOR_SHARED_LIBRARIES,
+				UiMessages.MainPreferencePage_sharedLibraries,
+				getFieldEditorParent()));
 		//
 		addField(new BooleanFieldEditor(P_COMMON_PALETTE_ADD_CHOSEN,
 				UiMessages.MainPreferencePage_autoCustomOnChoose,
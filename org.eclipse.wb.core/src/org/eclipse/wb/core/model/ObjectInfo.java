@@ -25,6 +25,7 @@ import org.eclipse.wb.internal.core.model.property.Property;
 import org.eclipse.wb.internal.core.utils.GenericsUtils;
 import org.eclipse.wb.internal.core.utils.check.Assert;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
+import org.eclipse.wb.internal.core.utils.execution.PerformanceTracer;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 
 import org.eclipse.jface.resource.ImageDescriptor;
@@ -477,12 +478,24 @@ public abstract class ObjectInfo implements IObjectInfo {
 		// clean up broadcast
 		getBroadcastSupport().cleanUpTargets(ObjectInfo.this);
 		// do refresh
-		execRefreshOperation(() -> ExecutionUtils.runDesignTime(() -> refreshCreate0()));
+		execRefreshOperation(() -> {
+			try (PerformanceTracer tracer = PerformanceTracer.start(
+					PerformanceTracer.REFRESH_CREATE,
+					getRefreshSubject())) {
+				ExecutionUtils.runDesignTime(() -> refreshCreate0());
+			}
+		});
 		// split fetch operations into separate parts
-		execRefreshOperation(() -> ExecutionUtils.runDesignTime(() -> {
-			refresh_fetch();
-			refresh_finish();
-		}));
+		execRefreshOperation(() -> {
+			try (PerformanceTracer tracer = PerformanceTracer.start(
+					PerformanceTracer.REFRESH_FETCH,
+					getRefreshSubject())) {
+				ExecutionUtils.runDesignTime(() -> {
+					refresh_fetch();
+					refresh_finish();
+				});
+			}
+		});
 		// send notifications
 		if (getArbitraryValue(KEY_NO_REFRESHED_BROADCAST) != Boolean.FALSE) {
 			getBroadcastObject().refreshed();
@@ -490,6 +503,14 @@ public abstract class ObjectInfo implements IObjectInfo {
 		}
 	}
 
+	/**
+	 * @return the name of this root object, such as name of its source file, used as subject of
+	 *         {@link PerformanceTracer} phases of {@link #refresh()}.
+	 */
+	protected String getRefreshSubject() {
+		return getClass().getName();
+	}
+
 	/**
 	 * Runs {@link RunnableEx} performing refresh. This is overridden in Swing because it requires
 	 * doing refresh in AWT dispatch thread.
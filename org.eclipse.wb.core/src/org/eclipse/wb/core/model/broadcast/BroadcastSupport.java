@@ -15,16 +15,37 @@ package org.eclipse.wb.core.model.broadcast;
 import org.eclipse.wb.core.model.ObjectInfo;
 import org.eclipse.wb.internal.core.DesignerPlugin;
 import org.eclipse.wb.internal.core.utils.check.Assert;
-import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 
 import org.eclipse.core.runtime.Platform;
 
+import org.apache.commons.lang3.ArrayUtils;
+
 import net.bytebuddy.ByteBuddy;
-import net.bytebuddy.implementation.InvocationHandlerAdapter;
+import net.bytebuddy.asm.AsmVisitorWrapper;
+import net.bytebuddy.description.field.FieldDescription;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDefinition;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.implementation.Implementation;
+import net.bytebuddy.implementation.bytecode.ByteCodeAppender;
+import net.bytebuddy.implementation.bytecode.Removal;
+import net.bytebuddy.implementation.bytecode.StackManipulation;
+import net.bytebuddy.implementation.bytecode.assign.TypeCasting;
+import net.bytebuddy.implementation.bytecode.constant.DefaultValue;
+import net.bytebuddy.implementation.bytecode.member.FieldAccess;
+import net.bytebuddy.implementation.bytecode.member.MethodInvocation;
+import net.bytebuddy.implementation.bytecode.member.MethodReturn;
+import net.bytebuddy.implementation.bytecode.member.MethodVariableAccess;
+import net.bytebuddy.jar.asm.ClassWriter;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.matcher.ElementMatchers;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -42,9 +63,10 @@ import java.util.Map;
 public final class BroadcastSupport {
 	private static final boolean DEBUG = Platform.getDebugBoolean("org.eclipse.wb.core/debug/broadcastSupport");
 	/**
-	 * {@link Map} for "listener class" -> "listener implementations".
+	 * {@link Map} for "listener class" -> "listener implementations". Arrays are never modified, but
+	 * replaced, and also set into multicast, so it can iterate without copying.
 	 */
-	private final Map<Class<?>, List<Object>> m_classToListeners = new HashMap<>();
+	private final Map<Class<?>, Object[]> m_classToListeners = new HashMap<>();
 	/**
 	 * {@link Map} for "listener target" -> "listener implementations".
 	 */
@@ -60,7 +82,7 @@ public final class BroadcastSupport {
 	 */
 	public void addListener(ObjectInfo target, Object listenerImpl) {
 		Class<?> listenerClass = getListenerClass(listenerImpl);
-		addListener(getClassListeners(listenerClass), listenerImpl);
+		addClassListener(listenerClass, listenerImpl);
 		if (target != null) {
 			addListener(getTargetListeners(target), listenerImpl);
 		}
@@ -71,7 +93,7 @@ public final class BroadcastSupport {
 	 */
 	public void removeListener(ObjectInfo target, Object listenerImpl) {
 		Class<?> listenerClass = getListenerClass(listenerImpl);
-		getClassListeners(listenerClass).remove(listenerImpl);
+		removeClassListener(listenerClass, listenerImpl);
 		if (target != null) {
 			getTargetListeners(target).remove(listenerImpl);
 		}
@@ -139,16 +161,23 @@ public final class BroadcastSupport {
 	}
 
 	/**
-	 * @return the {@link List} of listeners of given class. May return empty {@link List}, but not
+	 * @return the array of listeners of given class. May return empty array, but not
 	 *         <code>null</code>.
 	 */
-	private List<Object> getClassListeners(Class<?> listenerClass) {
-		List<Object> listeners = m_classToListeners.get(listenerClass);
-		if (listeners == null) {
-			listeners = new ArrayList<>();
-			m_classToListeners.put(listenerClass, listeners);
+	private Object[] getClassListeners(Class<?> listenerClass) {
+		Object[] listeners = m_classToListeners.get(listenerClass);
+		return listeners != null ? listeners : ArrayUtils.EMPTY_OBJECT_ARRAY;
+	}
+
+	/**
+	 * Replaces array of listeners of given class, also in its multicast, if already created.
+	 */
+	private void setClassListeners(Class<?> listenerClass, Object[] listeners) {
+		m_classToListeners.put(listenerClass, listeners);
+		Object multicast = m_listenerToMulticast.get(listenerClass);
+		if (multicast != null) {
+			MULTICAST_FACTORIES.get(listenerClass).setListeners(multicast, listeners);
 		}
-		return listeners;
 	}
 
 	/**
@@ -164,6 +193,27 @@ public final class BroadcastSupport {
 		return listeners;
 	}
 
+	/**
+	 * Adds new listener of given class only if there are no same listener yet.
+	 */
+	private void addClassListener(Class<?> listenerClass, Object listener) {
+		Object[] listeners = getClassListeners(listenerClass);
+		if (!ArrayUtils.contains(listeners, listener)) {
+			setClassListeners(listenerClass, ArrayUtils.add(listeners, listener));
+		}
+	}
+
+	/**
+	 * Removes listener of given class, if it is there.
+	 */
+	private void removeClassListener(Class<?> listenerClass, Object listener) {
+		Object[] listeners = getClassListeners(listenerClass);
+		int index = ArrayUtils.indexOf(listeners, listener);
+		if (index != ArrayUtils.INDEX_NOT_FOUND) {
+			setClassListeners(listenerClass, ArrayUtils.remove(listeners, index));
+		}
+	}
+
 	/**
 	 * Adds new listener into {@link List} only if there are no same listener yet.
 	 */
@@ -201,33 +251,10 @@ public final class BroadcastSupport {
 		Object listenerMulticast = m_listenerToMulticast.get(listenerClass);
 		if (listenerMulticast == null) {
 			try {
-				// remember multi-cast
-				listenerMulticast = new ByteBuddy()
-						.subclass(listenerClass)
-						.method(ElementMatchers.any())
-						.intercept(InvocationHandlerAdapter.of((Object obj, Method method, Object[] args) -> {
-							// Iterate over a local copy due to a potential ConcurrentModificationException
-							for (Object listener : getClassListeners(listenerClass).toArray()) {
-								try {
-									if (args == null) {
-										ReflectionUtils.invokeMethod(method, listener);
-									} else {
-										ReflectionUtils.invokeMethod(method, listener, args);
-									}
-								} catch (InvocationTargetException e) {
-									throw e.getCause();
-								}
-							}
-							// no result
-							return null;
-						}))
-						.make()
-						.load(listenerClass.getClassLoader())
-						.getLoaded()
-						.getConstructor()
-						.newInstance();
+				MulticastFactory factory = MULTICAST_FACTORIES.get(listenerClass);
+				listenerMulticast = factory.create(getClassListeners(listenerClass));
 				m_listenerToMulticast.put(listenerClass, listenerMulticast);
-			} catch(ReflectiveOperationException  e) {
+			} catch (Throwable e) {
 				DesignerPlugin.log(e.getMessage(), e);
 			}
 		}
@@ -236,4 +263,131 @@ public final class BroadcastSupport {
 		T casted_listenerMulticast = (T) listenerMulticast;
 		return casted_listenerMulticast;
 	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Multicast generation
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private static final String LISTENERS_FIELD = "m_listeners";
+	/**
+	 * Multicast classes are generated once for each listener class and shared by all
+	 * {@link BroadcastSupport} instances.
+	 */
+	private static final ClassValue<MulticastFactory> MULTICAST_FACTORIES = new ClassValue<>() {
+		@Override
+		protected MulticastFactory computeValue(Class<?> listenerClass) {
+			try {
+				return new MulticastFactory(listenerClass);
+			} catch (ReflectiveOperationException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+
+	/**
+	 * Creates instances of generated multicast class for single listener class.
+	 */
+	private static final class MulticastFactory {
+		private final Constructor<?> m_constructor;
+		private final Field m_listenersField;
+
+		public MulticastFactory(Class<?> listenerClass) throws ReflectiveOperationException {
+			Class<?> multicastClass = new ByteBuddy()
+					.subclass(listenerClass)
+					.defineField(
+							LISTENERS_FIELD,
+							Object[].class,
+							Visibility.PUBLIC,
+							FieldManifestation.VOLATILE)
+					.method(ElementMatchers.<MethodDescription>isPublic()
+							.and(ElementMatchers.not(ElementMatchers.<MethodDescription>isDeclaredBy(Object.class))))
+					.intercept(new Implementation.Simple(new MulticastAppender(listenerClass)))
+					.visit(new AsmVisitorWrapper.ForDeclaredMethods().writerFlags(ClassWriter.COMPUTE_FRAMES))
+					.make()
+					.load(listenerClass.getClassLoader())
+					.getLoaded();
+			m_constructor = multicastClass.getConstructor();
+			m_listenersField = multicastClass.getField(LISTENERS_FIELD);
+		}
+
+		public Object create(Object[] listeners) throws ReflectiveOperationException {
+			Object multicast = m_constructor.newInstance();
+			setListeners(multicast, listeners);
+			return multicast;
+		}
+
+		public void setListeners(Object multicast, Object[] listeners) {
+			try {
+				m_listenersField.set(multicast, listeners);
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/**
+	 * Generates method body which invokes same method directly on each listener, without reflection
+	 * and allocations:
+	 *
+	 * <pre>
+	 * Object[] listeners = m_listeners;
+	 * for (int i = 0; i < listeners.length; i++) {
+	 *   ((ListenerClass) listeners[i]).method(arguments);
+	 * }
+	 * return defaultValue;
+	 * </pre>
+	 */
+	private static final class MulticastAppender implements ByteCodeAppender {
+		private final TypeDescription m_listenerType;
+
+		public MulticastAppender(Class<?> listenerClass) {
+			m_listenerType = TypeDescription.ForLoadedType.of(listenerClass);
+		}
+
+		@Override
+		public Size apply(MethodVisitor mv, Implementation.Context context, MethodDescription method) {
+			TypeDescription instrumentedType = context.getInstrumentedType();
+			FieldDescription listenersField =
+					instrumentedType.getDeclaredFields().filter(ElementMatchers.named(LISTENERS_FIELD)).getOnly();
+			TypeDefinition returnType = method.getReturnType();
+			int arrayIndex = method.getStackSize();
+			int indexIndex = arrayIndex + 1;
+			// Object[] listeners = m_listeners;
+			new StackManipulation.Compound(
+					MethodVariableAccess.loadThis(),
+					FieldAccess.forField(listenersField).read()).apply(mv, context);
+			mv.visitVarInsn(Opcodes.ASTORE, arrayIndex);
+			// int i = 0;
+			mv.visitInsn(Opcodes.ICONST_0);
+			mv.visitVarInsn(Opcodes.ISTORE, indexIndex);
+			// loop condition
+			Label loopLabel = new Label();
+			Label endLabel = new Label();
+			mv.visitLabel(loopLabel);
+			mv.visitVarInsn(Opcodes.ILOAD, indexIndex);
+			mv.visitVarInsn(Opcodes.ALOAD, arrayIndex);
+			mv.visitInsn(Opcodes.ARRAYLENGTH);
+			mv.visitJumpInsn(Opcodes.IF_ICMPGE, endLabel);
+			// ((ListenerClass) listeners[i]).method(arguments);
+			mv.visitVarInsn(Opcodes.ALOAD, arrayIndex);
+			mv.visitVarInsn(Opcodes.ILOAD, indexIndex);
+			mv.visitInsn(Opcodes.AALOAD);
+			new StackManipulation.Compound(
+					TypeCasting.to(m_listenerType),
+					MethodVariableAccess.allArgumentsOf(method),
+					MethodInvocation.invoke(method.asDefined()).virtual(m_listenerType),
+					Removal.of(returnType)).apply(mv, context);
+			// i++
+			mv.visitIincInsn(indexIndex, 1);
+			mv.visitJumpInsn(Opcodes.GOTO, loopLabel);
+			// return default value
+			mv.visitLabel(endLabel);
+			new StackManipulation.Compound(
+					DefaultValue.of(returnType),
+					MethodReturn.of(returnType)).apply(mv, context);
+			// frames and stack size are computed by ClassWriter
+			return new Size(0, indexIndex + 1);
+		}
+	}
 }
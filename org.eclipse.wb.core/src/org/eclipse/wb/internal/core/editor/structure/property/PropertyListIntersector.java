@@ -14,13 +14,19 @@ package org.eclipse.wb.internal.core.editor.structure.property;
 
 import org.eclipse.wb.internal.core.model.property.Property;
 import org.eclipse.wb.internal.core.model.property.PropertyManager;
+import org.eclipse.wb.internal.core.model.property.category.PropertyCategory;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Helper for computing intersection of {@link Property} arrays.
+ * <p>
+ * Each new array is indexed by {@link Property} class and title, so intersection is linear in the
+ * number of properties, even for big selections.
  *
  * @author scheglov_ke
  * @coverage core.editor.structure
@@ -44,15 +50,28 @@ public final class PropertyListIntersector {
 				m_intersection.add(new PropertyGroup(property));
 			}
 		} else {
+			Map<PropertyKey, List<Property>> index = createIndex(properties);
 			for (Iterator<PropertyGroup> I = m_intersection.iterator(); I.hasNext();) {
 				PropertyGroup propertyGroup = I.next();
-				if (!propertyGroup.add(properties)) {
+				if (!propertyGroup.add(index)) {
 					I.remove();
 				}
 			}
 		}
 	}
 
+	/**
+	 * @return the {@link Property}'s from given array, grouped by {@link PropertyKey}, in original
+	 *         order.
+	 */
+	private static Map<PropertyKey, List<Property>> createIndex(Property[] properties) {
+		Map<PropertyKey, List<Property>> index = new HashMap<>();
+		for (Property property : properties) {
+			index.computeIfAbsent(PropertyKey.of(property), key -> new ArrayList<>(1)).add(property);
+		}
+		return index;
+	}
+
 	/**
 	 * @return the array of matched composite {@link Property}'s.
 	 */
@@ -78,6 +97,8 @@ public final class PropertyListIntersector {
 	 */
 	private static final class PropertyGroup {
 		private final List<Property> m_properties = new ArrayList<>();
+		private final PropertyKey m_key;
+		private final PropertyCategory m_category;
 
 		////////////////////////////////////////////////////////////////////////////
 		//
@@ -86,6 +107,8 @@ public final class PropertyListIntersector {
 		////////////////////////////////////////////////////////////////////////////
 		public PropertyGroup(Property property) {
 			m_properties.add(property);
+			m_key = PropertyKey.of(property);
+			m_category = PropertyManager.getCategory(property);
 		}
 
 		////////////////////////////////////////////////////////////////////////////
@@ -94,12 +117,16 @@ public final class PropertyListIntersector {
 		//
 		////////////////////////////////////////////////////////////////////////////
 		/**
-		 * @return <code>true</code> if new matched {@link Property} from given array was added.
+		 * @return <code>true</code> if new matched {@link Property} from given index was added.
 		 */
-		public boolean add(Property[] properties) {
-			for (Property property : properties) {
-				if (add(property)) {
-					return true;
+		public boolean add(Map<PropertyKey, List<Property>> index) {
+			List<Property> properties = index.get(m_key);
+			if (properties != null) {
+				for (Property property : properties) {
+					if (PropertyManager.getCategory(property) == m_category) {
+						m_properties.add(property);
+						return true;
+					}
 				}
 			}
 			// no match
@@ -113,25 +140,19 @@ public final class PropertyListIntersector {
 			Property properties[] = m_properties.toArray(new Property[m_properties.size()]);
 			return properties[0].getComposite(properties);
 		}
+	}
 
-		////////////////////////////////////////////////////////////////////////////
-		//
-		// Internal
-		//
-		////////////////////////////////////////////////////////////////////////////
-		/**
-		 * @return <code>true</code> if given {@link Property} matches and was added.
-		 */
-		private boolean add(Property property) {
-			Property example = m_properties.get(0);
-			if (example.getClass() == property.getClass()
-					&& example.getTitle().equals(property.getTitle())
-					&& PropertyManager.getCategory(example) == PropertyManager.getCategory(property)) {
-				m_properties.add(property);
-				return true;
-			}
-			// no match
-			return false;
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// PropertyKey
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * The class and title of {@link Property}. Category is compared separately, by identity.
+	 */
+	private record PropertyKey(Class<?> type, String title) {
+		public static PropertyKey of(Property property) {
+			return new PropertyKey(property.getClass(), property.getTitle());
 		}
 	}
 }
@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.gef.policy.snapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Index of items by their interval in one dimension, for example by vertical interval of widget
+ * bounds.
+ * <p>
+ * Index is built once for list of items, then it finds items which intersect given interval in
+ * O(log n + k). Items are sorted by begin of interval and form implicit balanced tree, where each
+ * node remembers maximal end of interval in its subtree.
+ *
+ * @coverage core.gef.policy.snapping
+ */
+public final class IntervalIndex<T> {
+	private final List<T> m_items;
+	private final int[] m_indexes;
+	private final int[] m_begins;
+	private final int[] m_ends;
+	private final int[] m_maxEnds;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @param items
+	 *          the items to index.
+	 * @param begin
+	 *          the function returning begin of interval of item.
+	 * @param end
+	 *          the function returning end of interval of item.
+	 */
+	public IntervalIndex(List<T> items, ToIntFunction<T> begin, ToIntFunction<T> end) {
+		m_items = List.copyOf(items);
+		int size = m_items.size();
+		Integer[] indexes = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			indexes[i] = i;
+		}
+		Arrays.sort(indexes, Comparator.comparingInt(index -> begin.applyAsInt(m_items.get(index))));
+		m_indexes = new int[size];
+		m_begins = new int[size];
+		m_ends = new int[size];
+		m_maxEnds = new int[size];
+		for (int i = 0; i < size; i++) {
+			T item = m_items.get(indexes[i]);
+			m_indexes[i] = indexes[i];
+			m_begins[i] = begin.applyAsInt(item);
+			m_ends[i] = end.applyAsInt(item);
+		}
+		prepareMaxEnds(0, size);
+	}
+
+	/**
+	 * Fills {@link #m_maxEnds} for subtree with given range of sorted items.
+	 *
+	 * @return the maximal end of interval in this subtree.
+	 */
+	private int prepareMaxEnds(int low, int high) {
+		if (low >= high) {
+			return Integer.MIN_VALUE;
+		}
+		int middle = (low + high) / 2;
+		int maxEnd = m_ends[middle];
+		maxEnd = Math.max(maxEnd, prepareMaxEnds(low, middle));
+		maxEnd = Math.max(maxEnd, prepareMaxEnds(middle + 1, high));
+		m_maxEnds[middle] = maxEnd;
+		return maxEnd;
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the items which interval has common point with interval from <code>begin</code> to
+	 *         <code>end</code>, both inclusive, in same order as in original list of items.
+	 */
+	public List<T> find(int begin, int end) {
+		List<Integer> indexes = new ArrayList<>();
+		find(0, m_begins.length, begin, end, indexes);
+		indexes.sort(null);
+		List<T> items = new ArrayList<>(indexes.size());
+		for (int index : indexes) {
+			items.add(m_items.get(index));
+		}
+		return items;
+	}
+
+	private void find(int low, int high, int begin, int end, List<Integer> indexes) {
+		if (low >= high) {
+			return;
+		}
+		int middle = (low + high) / 2;
+		// no intervals in this subtree reach given interval
+		if (m_maxEnds[middle] < begin) {
+			return;
+		}
+		find(low, middle, begin, end, indexes);
+		// this and following intervals begin after given interval
+		if (m_begins[middle] > end) {
+			return;
+		}
+		if (m_ends[middle] >= begin) {
+			indexes.add(m_indexes[middle]);
+		}
+		find(middle + 1, high, begin, end, indexes);
+	}
+}
@@ -59,6 +59,12 @@ public final class PlacementsSupport {
 	private final IAbsoluteLayoutCommands m_layoutCommands;
 	private int m_resizeDirection;
 	private boolean m_isCreating;
+	private List<IAbstractComponentInfo> m_remainingWidgets;
+	private List<IAbstractComponentInfo> m_remainingWidgetsFor;
+	private IntervalIndex<RemainingWidget> m_remainingWidgetsByX;
+	private IntervalIndex<RemainingWidget> m_remainingWidgetsByY;
+	private List<IAbstractComponentInfo> m_remainingWidgetsIndexFor;
+	private Point m_remainingWidgetsIndexOffset;
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -102,7 +108,7 @@ public final class PlacementsSupport {
 		m_resizeDirection = resizeDirection;
 		m_isCreating = widget.getModelBounds() == null;
 		m_bounds = widgetBounds.getCopy();
-		m_operatingWidgets = List.of(widget);
+		setOperatingWidgets(List.of(widget));
 		m_snapPoints.processBounds(this, location, m_operatingWidgets, resizeDirection);
 		m_newModelBounds.put(widget, m_bounds.getCopy());
 	}
@@ -164,6 +170,8 @@ public final class PlacementsSupport {
 
 	public void cleanup() {
 		m_operatingWidgets = null;
+		m_remainingWidgets = null;
+		m_remainingWidgetsIndexFor = null;
 		m_resizeDirection = 0;
 		m_x.cleanup();
 		m_y.cleanup();
@@ -242,11 +250,11 @@ public final class PlacementsSupport {
 		Interval componentsHeight = new Interval(componentsBounds.y, componentsBounds.height);
 		List<IAbstractComponentInfo>[] overlappings = placement.getOverlappings();
 		int[] distances = placement.getDistances();
-		// traverse children
-		List<IAbstractComponentInfo> remainingComponents = getRemainingWidgets();
-		for (IAbstractComponentInfo component : remainingComponents) {
+		// traverse children, which may intersect in opposite dimension
+		for (RemainingWidget remainingComponent : findRemainingWidgets(componentsHeight, isHorizontal)) {
+			IAbstractComponentInfo component = remainingComponent.widget();
 			// test where is the component located: leading or trailing
-			Rectangle childComponentBounds = t.t(PlacementUtils.getTranslatedBounds(m_visualDataProvider, component));
+			Rectangle childComponentBounds = t.t(remainingComponent.bounds());
 			// component should intersect in opposite dimension.
 			Interval childComponentHeight = new Interval(childComponentBounds.y, childComponentBounds.height);
 			if (componentsHeight.intersects(childComponentHeight)) {
@@ -285,11 +293,10 @@ public final class PlacementsSupport {
 			Rectangle widgetsBounds = t.t(m_bounds.getCopy());
 			Interval widgetsWidth = new Interval(widgetsBounds.x, widgetsBounds.width);
 			Interval widgetsHeight = new Interval(widgetsBounds.y, widgetsBounds.height);
-			List<IAbstractComponentInfo> remainingWidgets = getRemainingWidgets();
-			for (IAbstractComponentInfo widget : remainingWidgets) {
+			for (RemainingWidget remainingWidget : findRemainingWidgets(widgetsHeight, isHorizontal)) {
+				IAbstractComponentInfo widget = remainingWidget.widget();
 				// test where is the neighbor component located: leading or trailing
-				Rectangle possibleNeighborBounds = t
-						.t(PlacementUtils.getTranslatedBounds(m_visualDataProvider, widget));
+				Rectangle possibleNeighborBounds = t.t(remainingWidget.bounds());
 				// neighbor should intersect in opposite dimension.
 				Interval possibleNeighborHeight = new Interval(possibleNeighborBounds.y, possibleNeighborBounds.height);
 				if (widgetsHeight.intersects(possibleNeighborHeight)) {
@@ -679,7 +686,55 @@ public final class PlacementsSupport {
 	 * @return the list of the components which should not be affected by operation.
 	 */
 	private List<IAbstractComponentInfo> getRemainingWidgets() {
-		return (List<IAbstractComponentInfo>) CollectionUtils.subtract(m_allWidgets, m_operatingWidgets);
+		if (m_remainingWidgets == null || m_remainingWidgetsFor != m_operatingWidgets) {
+			m_remainingWidgets = Collections.unmodifiableList(
+					(List<IAbstractComponentInfo>) CollectionUtils.subtract(m_allWidgets, m_operatingWidgets));
+			m_remainingWidgetsFor = m_operatingWidgets;
+		}
+		return m_remainingWidgets;
+	}
+
+	/**
+	 * @param interval
+	 *          the interval in dimension opposite to the given one, i.e. vertical interval if
+	 *          <code>isHorizontal</code> is <code>true</code>.
+	 *
+	 * @return the remaining widgets which may intersect with given interval, in same order as
+	 *         {@link #getRemainingWidgets()}.
+	 */
+	private List<RemainingWidget> findRemainingWidgets(Interval interval, boolean isHorizontal) {
+		prepareRemainingWidgetsIndex();
+		IntervalIndex<RemainingWidget> index = isHorizontal ? m_remainingWidgetsByY : m_remainingWidgetsByX;
+		return index.find(interval.begin(), interval.end());
+	}
+
+	/**
+	 * Prepares index of translated bounds of remaining widgets. Remaining widgets are not changed
+	 * during drag, so index is built once for same remaining widgets and client area offset, and
+	 * mouse move does not check each widget.
+	 */
+	private void prepareRemainingWidgetsIndex() {
+		List<IAbstractComponentInfo> remainingWidgets = getRemainingWidgets();
+		Point clientAreaOffset = m_visualDataProvider.getClientAreaOffset();
+		if (m_remainingWidgetsIndexFor != remainingWidgets
+				|| !m_remainingWidgetsIndexOffset.equals(clientAreaOffset)) {
+			List<RemainingWidget> widgets = new ArrayList<>(remainingWidgets.size());
+			for (IAbstractComponentInfo widget : remainingWidgets) {
+				Rectangle bounds =
+						PlacementUtils.getTranslatedBounds(clientAreaOffset, widget.getModelBounds().getCopy());
+				widgets.add(new RemainingWidget(widget, bounds));
+			}
+			m_remainingWidgetsByX = new IntervalIndex<>(widgets, w -> w.bounds().x, w -> w.bounds().right());
+			m_remainingWidgetsByY = new IntervalIndex<>(widgets, w -> w.bounds().y, w -> w.bounds().bottom());
+			m_remainingWidgetsIndexFor = remainingWidgets;
+			m_remainingWidgetsIndexOffset = clientAreaOffset.getCopy();
+		}
+	}
+
+	/**
+	 * Remaining widget with its translated bounds, see {@link #prepareRemainingWidgetsIndex()}.
+	 */
+	private record RemainingWidget(IAbstractComponentInfo widget, Rectangle bounds) {
 	}
 
 	/**
@@ -720,7 +775,10 @@ public final class PlacementsSupport {
 	}
 
 	private void setOperatingWidgets(List<? extends IAbstractComponentInfo> widgets) {
-		m_operatingWidgets = List.copyOf(widgets);
+		// keep same list during drag, so cached remaining widgets can be reused
+		if (!widgets.equals(m_operatingWidgets)) {
+			m_operatingWidgets = List.copyOf(widgets);
+		}
 	}
 
 	private void addWidgets() {
@@ -729,6 +787,7 @@ public final class PlacementsSupport {
 				m_allWidgets.add(widget);
 			}
 		}
+		m_remainingWidgets = null;
 		m_snapPoints = new SnapPoints(m_visualDataProvider, m_feedbackProxy, m_allWidgets);
 	}
 
@@ -736,6 +795,7 @@ public final class PlacementsSupport {
 		for (IAbstractComponentInfo widget : widgets) {
 			m_allWidgets.remove(widget);
 		}
+		m_remainingWidgets = null;
 		m_snapPoints = new SnapPoints(m_visualDataProvider, m_feedbackProxy, m_allWidgets);
 	}
 
@@ -19,6 +19,7 @@ import org.eclipse.wb.internal.core.model.property.category.PropertyCategoryProv
 import org.eclipse.wb.internal.core.model.property.category.PropertyCategoryProviders;
 import org.eclipse.wb.internal.core.model.property.editor.PropertyEditor;
 import org.eclipse.wb.internal.core.model.property.editor.complex.IComplexPropertyEditor;
+import org.eclipse.wb.internal.core.model.property.table.editparts.NoPropertyEditPart;
 import org.eclipse.wb.internal.core.model.property.table.editparts.PropertyEditPart;
 import org.eclipse.wb.internal.core.model.property.table.editparts.PropertyEditPartFactory;
 import org.eclipse.wb.internal.core.utils.check.Assert;
@@ -30,6 +31,7 @@ import org.eclipse.draw2d.IFigure;
 import org.eclipse.draw2d.geometry.Point;
 import org.eclipse.draw2d.geometry.Rectangle;
 import org.eclipse.gef.EditDomain;
+import org.eclipse.gef.EditPart;
 import org.eclipse.gef.EditPartViewer;
 import org.eclipse.gef.ui.parts.ScrollingGraphicalViewer;
 import org.eclipse.swt.SWT;
@@ -40,7 +42,9 @@ import org.eclipse.swt.widgets.Composite;
 import org.apache.commons.collections4.CollectionUtils;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
@@ -74,8 +78,9 @@ public class PropertyTable extends ScrollingGraphicalViewer {
 	////////////////////////////////////////////////////////////////////////////
 	private boolean m_showAdvancedProperties;
 	private Property[] m_rawProperties;
-	private List<PropertyInfo> m_properties;
+	private final List<PropertyInfo> m_properties = new ArrayList<>();
 	private final Set<String> m_expandedIds = new TreeSet<>();
+	private Map<String, PropertyInfo> m_reusablePropertyInfos;
 	private int m_rowHeight;
 	private PropertyTableTooltipHelper m_toolTipHelper;
 
@@ -302,17 +307,21 @@ public class PropertyTable extends ScrollingGraphicalViewer {
 
 	private void setInput0() {
 		PropertyInfo activePropertyInfo = getFocusPropertyInfo();
+		// remember current PropertyInfo's, to keep them and their edit parts for same Property's
+		m_reusablePropertyInfos = new HashMap<>();
+		for (PropertyInfo propertyInfo : m_properties) {
+			m_reusablePropertyInfos.put(propertyInfo.m_id, propertyInfo);
+		}
+		m_properties.clear();
 		// set new properties
 		if (m_rawProperties == null || m_rawProperties.length == 0) {
 			deactivateEditor(false);
-			m_properties = new ArrayList<>();
 		} else {
 			try {
 				// add PropertyInfo for each Property
-				m_properties = new ArrayList<>();
 				for (Property property : m_rawProperties) {
 					if (rawProperties_shouldShow(property)) {
-						PropertyInfo propertyInfo = new PropertyInfo(property);
+						PropertyInfo propertyInfo = createPropertyInfo(property, "", 0);
 						m_properties.add(propertyInfo);
 					}
 				}
@@ -332,18 +341,17 @@ public class PropertyTable extends ScrollingGraphicalViewer {
 				DesignerPlugin.log(e);
 			}
 		}
-		setContents(m_properties);
+		m_reusablePropertyInfos = null;
+		updateContents();
 		getControl().getViewport().validate();
 		// update active property
 		if (activePropertyInfo != null) {
 			PropertyInfo newActivePropertyInfo = null;
 			// try to find corresponding PropertyInfo
-			if (m_properties != null) {
-				for (PropertyInfo propertyInfo : m_properties) {
-					if (propertyInfo.m_id.equals(activePropertyInfo.m_id)) {
-						newActivePropertyInfo = propertyInfo;
-						break;
-					}
+			for (PropertyInfo propertyInfo : m_properties) {
+				if (propertyInfo.m_id.equals(activePropertyInfo.m_id)) {
+					newActivePropertyInfo = propertyInfo;
+					break;
 				}
 			}
 			// set new PropertyInfo
@@ -355,6 +363,42 @@ public class PropertyTable extends ScrollingGraphicalViewer {
 		}
 	}
 
+	/**
+	 * @return the existing {@link PropertyInfo} for same {@link Property}, collapsed to expand its
+	 *         children again from history, or new {@link PropertyInfo}.
+	 */
+	private PropertyInfo createPropertyInfo(Property property, String idPrefix, int level) {
+		if (m_reusablePropertyInfos != null) {
+			PropertyInfo propertyInfo = m_reusablePropertyInfos.remove(idPrefix + "|" + property.getTitle());
+			if (propertyInfo != null
+					&& propertyInfo.m_property == property
+					&& propertyInfo.m_level == level) {
+				propertyInfo.m_stateExpanded = false;
+				propertyInfo.m_children = null;
+				return propertyInfo;
+			}
+		}
+		return new PropertyInfo(property, idPrefix, level);
+	}
+
+	/**
+	 * Shows current {@link PropertyInfo}'s. Edit parts of existing {@link PropertyInfo}'s are kept,
+	 * only edit parts for added ones are created. Root edit part is created again when properties
+	 * become empty or not empty, because {@link NoPropertyEditPart} is used for empty properties.
+	 */
+	private void updateContents() {
+		EditPart contents = getContents();
+		if (contents == null || contents instanceof NoPropertyEditPart != m_properties.isEmpty()) {
+			setContents(m_properties);
+		} else {
+			contents.refresh();
+			for (EditPart editPart : contents.getChildren()) {
+				editPart.refresh();
+			}
+			getControl().redraw();
+		}
+	}
+
 	/**
 	 * @return <code>true</code> if given {@link Property} should be displayed.
 	 */
@@ -829,7 +873,7 @@ public class PropertyTable extends ScrollingGraphicalViewer {
 		}
 
 		private PropertyInfo createSubPropertyInfo(Property subProperty) {
-			return new PropertyInfo(subProperty, m_id, m_level + 1);
+			return createPropertyInfo(subProperty, m_id, m_level + 1);
 		}
 
 		private Property[] getSubProperties() throws Exception {
@@ -15,6 +15,7 @@ package org.eclipse.wb.internal.core.model.util;
 import org.eclipse.wb.internal.core.utils.execution.ExecutionUtils;
 import org.eclipse.wb.internal.core.utils.execution.RunnableEx;
 import org.eclipse.wb.internal.core.utils.reflect.ClassLoaderLocalMap;
+import org.eclipse.wb.internal.core.utils.reflect.IClassLoaderInitializer;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 
 import org.apache.commons.collections4.map.AbstractReferenceMap.ReferenceStrength;
@@ -27,9 +28,12 @@ import org.mvel2.optimizers.dynamic.DynamicClassLoader;
 import org.mvel2.optimizers.impl.asm.ASMAccessorOptimizer;
 
 import java.lang.reflect.Field;
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utils for using MVEL.
@@ -47,8 +51,7 @@ public final class ScriptUtils {
 	 * Evaluates given script.
 	 */
 	public static Object evaluate(ClassLoader contextClassLoader, String script) {
-		Map<String, Object> variables = Collections.emptyMap();
-		return evaluate(contextClassLoader, script, variables);
+		return evaluate0(contextClassLoader, script, new HashMap<>());
 	}
 
 	/**
@@ -60,7 +63,7 @@ public final class ScriptUtils {
 			Object value_1) {
 		Map<String, Object> variables = new HashMap<>();
 		variables.put(name_1, value_1);
-		return evaluate(contextClassLoader, script, variables);
+		return evaluate0(contextClassLoader, script, variables);
 	}
 
 	/**
@@ -75,7 +78,7 @@ public final class ScriptUtils {
 		Map<String, Object> variables = new HashMap<>();
 		variables.put(name_1, value_1);
 		variables.put(name_2, value_2);
-		return evaluate(contextClassLoader, script, variables);
+		return evaluate0(contextClassLoader, script, variables);
 	}
 
 	/**
@@ -84,13 +87,17 @@ public final class ScriptUtils {
 	public static Object evaluate(ClassLoader contextClassLoader,
 			String script,
 			Map<String, Object> variables) {
-		Map<String, Object> contextCache = getContextCache(contextClassLoader);
-		try {
-			Object expression = compile(contextCache, script, contextClassLoader);
-			return evaluate(expression, variables);
-		} finally {
-			clearMemoryLeaks();
-		}
+		return evaluate0(contextClassLoader, script, new ScriptVariables(variables));
+	}
+
+	/**
+	 * Evaluates given script with variables, which are owned by caller and may be changed by script.
+	 */
+	private static Object evaluate0(ClassLoader contextClassLoader,
+			String script,
+			Map<String, Object> variables) {
+		Object expression = compile(script, contextClassLoader);
+		return MVEL.executeExpression(expression, variables);
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -102,7 +109,7 @@ public final class ScriptUtils {
 	 * Evaluates given script.
 	 */
 	public static Object evaluate(String script) {
-		return evaluate(script, new HashMap<>());
+		return MVEL.executeExpression(compile(script), new HashMap<>());
 	}
 
 	/**
@@ -120,7 +127,7 @@ public final class ScriptUtils {
 		Object expression = compile(script);
 		Map<String, Object> variables = new HashMap<>();
 		variables.put(name_1, value_1);
-		return evaluate(expression, variables);
+		return MVEL.executeExpression(expression, variables);
 	}
 
 	/**
@@ -135,7 +142,7 @@ public final class ScriptUtils {
 		Map<String, Object> variables = new HashMap<>();
 		variables.put(name_1, value_1);
 		variables.put(name_2, value_2);
-		return evaluate(expression, variables);
+		return MVEL.executeExpression(expression, variables);
 	}
 
 	/**
@@ -143,12 +150,47 @@ public final class ScriptUtils {
 	 */
 	public static Object evaluate(String script, Map<String, Object> variables) {
 		Object expression = compile(script);
-		return evaluate(expression, variables);
+		return MVEL.executeExpression(expression, new ScriptVariables(variables));
 	}
 
-	private static Object evaluate(Object expression, Map<String, Object> _variables) {
-		Map<String, Object> variables = new HashMap<>(_variables);
-		return MVEL.executeExpression(expression, variables);
+	/**
+	 * Variables for single evaluation. Reads variables of caller, but keeps variables assigned by
+	 * script separately, so {@link Map} of caller is not copied and not changed.
+	 */
+	private static final class ScriptVariables extends AbstractMap<String, Object> {
+		private final Map<String, Object> m_callerVariables;
+		private final Map<String, Object> m_scriptVariables = new HashMap<>();
+
+		public ScriptVariables(Map<String, Object> callerVariables) {
+			m_callerVariables = callerVariables;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return m_scriptVariables.containsKey(key) || m_callerVariables.containsKey(key);
+		}
+
+		@Override
+		public Object get(Object key) {
+			if (m_scriptVariables.containsKey(key)) {
+				return m_scriptVariables.get(key);
+			}
+			return m_callerVariables.get(key);
+		}
+
+		@Override
+		public Object put(String key, Object value) {
+			Object oldValue = get(key);
+			m_scriptVariables.put(key, value);
+			return oldValue;
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			Map<String, Object> variables = new HashMap<>(m_callerVariables);
+			variables.putAll(m_scriptVariables);
+			return Collections.unmodifiableMap(variables).entrySet();
+		}
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -163,6 +205,8 @@ public final class ScriptUtils {
 	 * <p>
 	 * MVEL uses {@link ThreadLocal}, but sometimes "forgets" to clear it.
 	 * <p>
+	 * Caches are cleared when {@link ClassLoader} of editor is disposed, not after each evaluation.
+	 * <p>
 	 * http://jira.codehaus.org/browse/MVEL-149
 	 * <p>
 	 * http://jira.codehaus.org/browse/MVEL-150
@@ -195,26 +239,45 @@ public final class ScriptUtils {
 		});
 	}
 
+	/**
+	 * {@link IClassLoaderInitializer} which clears MVEL caches when {@link ClassLoader} of editor is
+	 * disposed. It is registered for all toolkits.
+	 */
+	public static class MemoryLeaksManager implements IClassLoaderInitializer {
+		@Override
+		public void initialize(ClassLoader classLoader) {
+			// no-op
+		}
+
+		@Override
+		public void deinitialize(ClassLoader classLoader) {
+			clearMemoryLeaks();
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Compilation
 	//
 	////////////////////////////////////////////////////////////////////////////
-	private static final Map<String, Object> m_compiledExpressions =
-			new ReferenceMap<>(ReferenceStrength.HARD, ReferenceStrength.WEAK);
+	/**
+	 * Expressions compiled without {@link ClassLoader} of editor. Values are soft, so they are kept
+	 * while there is enough memory.
+	 */
+	private static final Map<String, Object> m_compiledExpressions = Collections.synchronizedMap(
+			new ReferenceMap<>(ReferenceStrength.HARD, ReferenceStrength.SOFT));
 
 	/**
-	 * @return the weak cache for given {@link ClassLoader}.
+	 * @return the cache of compiled expressions for given {@link ClassLoader}, it is dropped
+	 *         together with {@link ClassLoader}.
 	 */
 	@SuppressWarnings("unchecked")
 	private static Map<String, Object> getContextCache(ClassLoader context) {
 		Class<ScriptUtils> key = ScriptUtils.class;
-		Map<String, Object> cache = (Map<String, Object>) ClassLoaderLocalMap.get(context, key);
-		if (cache == null) {
-			cache = new HashMap<>();
-			ClassLoaderLocalMap.put(context, key, cache);
-		}
-		return cache;
+		return (Map<String, Object>) ClassLoaderLocalMap.computeIfAbsent(
+				context,
+				key,
+				ConcurrentHashMap::new);
 	}
 
 	/**
@@ -222,21 +285,25 @@ public final class ScriptUtils {
 	 */
 	private static Object compile(String script) {
 		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
-		return compile(m_compiledExpressions, script, contextClassLoader);
-	}
-
-	private static Object compile(Map<String, Object> cache,
-			String script,
-			ClassLoader contextClassLoader) {
-		Object expression = cache.get(script);
+		Object expression = m_compiledExpressions.get(script);
 		if (expression == null) {
-			ParserConfiguration parserConfiguration = new ParserConfiguration();
-			parserConfiguration.setClassLoader(contextClassLoader);
-			ParserContext context = new ParserContext(parserConfiguration);
-			context.addImport("ReflectionUtils", ReflectionUtils.class);
-			expression = MVEL.compileExpression(script, context);
-			cache.put(script, expression);
+			expression = compile0(script, contextClassLoader);
+			m_compiledExpressions.put(script, expression);
 		}
 		return expression;
 	}
+
+	private static Object compile(String script, ClassLoader contextClassLoader) {
+		return getContextCache(contextClassLoader).computeIfAbsent(
+				script,
+				key -> compile0(script, contextClassLoader));
+	}
+
+	private static Object compile0(String script, ClassLoader contextClassLoader) {
+		ParserConfiguration parserConfiguration = new ParserConfiguration();
+		parserConfiguration.setClassLoader(contextClassLoader);
+		ParserContext context = new ParserContext(parserConfiguration);
+		context.addImport("ReflectionUtils", ReflectionUtils.class);
+		return MVEL.compileExpression(script, context);
+	}
 }
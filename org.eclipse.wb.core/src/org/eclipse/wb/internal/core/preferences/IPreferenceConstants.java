@@ -135,6 +135,27 @@ public interface IPreferenceConstants {
 	 * selection.
 	 */
 	String P_EDITOR_GOTO_DEFINITION_ON_SELECTION = "editor.gotoComponentDefinitionOnSelection";
+	/**
+	 * When <code>true</code>, classes from JAR files of project classpath are loaded once and shared
+	 * between all editors with same classpath.
+	 */
+	String P_EDITOR_SHARED_LIBRARIES = "editor.sharedLibraries";
+	/**
+	 * Priority of background preparation of "Design" page, while editor shows "Source" page.
+	 */
+	String P_EDITOR_PREWARM = "editor.prewarm";
+	/**
+	 * Option of background preparation of "Design" page. Nothing is prepared.
+	 */
+	int V_EDITOR_PREWARM_DISABLED = 0;
+	/**
+	 * Option of background preparation of "Design" page. Run with low priority.
+	 */
+	int V_EDITOR_PREWARM_LOW = 1;
+	/**
+	 * Option of background preparation of "Design" page. Run with normal priority.
+	 */
+	int V_EDITOR_PREWARM_NORMAL = 2;
 	/**
 	 * Action to be performed by double-clicking on widget in widget tree.
 	 */
@@ -0,0 +1,148 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.internal.core.utils.execution;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Measures duration of single phase of design, such as parsing, refresh or creating new component.
+ * <p>
+ * Each phase is committed as event of Java Flight Recorder, so it can be recorded using
+ * <code>jcmd</code> or JDK Mission Control and analyzed together with other JVM events. Events cost
+ * almost nothing if recording is not active. There is no view or history inside of IDE, recordings
+ * are the only consumer.
+ * <p>
+ * Phases of whole editor, started using {@link #start(String, String)}, are always committed.
+ * Phases of single component, such as evaluating constructor or loading description, are started
+ * using {@link #startComponent(String, String)} and committed only if they take at least 1 ms, so
+ * breakdown shows slow components without recording every component. This threshold can be changed
+ * in recording settings.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * try (PerformanceTracer tracer = PerformanceTracer.start(PerformanceTracer.PARSE, unitName)) {
+ *   ...
+ * }
+ * </pre>
+ *
+ * @coverage core.util
+ */
+public final class PerformanceTracer implements AutoCloseable {
+	public static final String CLASS_LOADER = "class loader";
+	public static final String PARSE = "parse";
+	public static final String DESCRIPTION = "description";
+	public static final String EVALUATE = "evaluate";
+	public static final String CONSTRUCTOR = "constructor";
+	public static final String CREATE = "create";
+	public static final String REFRESH_CREATE = "refresh create";
+	public static final String REFRESH_FETCH = "refresh fetch";
+	public static final String GEF_REFRESH = "GEF refresh";
+	public static final String COMMIT = "commit";
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Access
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Starts measuring of phase, which is finished by {@link #close()}.
+	 *
+	 * @param phase
+	 *          the name of phase, one of the constants of {@link PerformanceTracer}.
+	 * @param subject
+	 *          the subject of phase, such as name of compilation unit or component class, may be
+	 *          <code>null</code>.
+	 */
+	public static PerformanceTracer start(String phase, String subject) {
+		return new PerformanceTracer(new PhaseEvent(), phase, subject);
+	}
+
+	/**
+	 * Starts measuring of phase of single component, which is finished by {@link #close()}.
+	 *
+	 * @param phase
+	 *          the name of phase, one of the constants of {@link PerformanceTracer}.
+	 * @param subject
+	 *          the subject of phase, such as name of component class.
+	 */
+	public static PerformanceTracer startComponent(String phase, String subject) {
+		return new PerformanceTracer(new ComponentPhaseEvent(), phase, subject);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Instance fields
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private final String m_phase;
+	private final String m_subject;
+	private final AbstractPhaseEvent m_event;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Constructor
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private PerformanceTracer(AbstractPhaseEvent event, String phase, String subject) {
+		m_phase = phase;
+		m_subject = subject;
+		m_event = event;
+		m_event.begin();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// AutoCloseable
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Finishes measuring of this phase.
+	 */
+	@Override
+	public void close() {
+		m_event.end();
+		if (m_event.shouldCommit()) {
+			m_event.phase = m_phase;
+			m_event.subject = m_subject;
+			m_event.commit();
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Events
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Category("WindowBuilder")
+	@StackTrace(false)
+	abstract static class AbstractPhaseEvent extends Event {
+		@Label("Phase")
+		String phase;
+		@Label("Subject")
+		String subject;
+	}
+
+	@Name("org.eclipse.wb.DesignPhase")
+	@Label("Design Phase")
+	static final class PhaseEvent extends AbstractPhaseEvent {
+	}
+
+	@Name("org.eclipse.wb.ComponentPhase")
+	@Label("Component Phase")
+	@Threshold("1 ms")
+	static final class ComponentPhaseEvent extends AbstractPhaseEvent {
+	}
+}
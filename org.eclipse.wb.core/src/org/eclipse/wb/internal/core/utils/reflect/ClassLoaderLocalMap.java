@@ -12,22 +12,34 @@
  *******************************************************************************/
 package org.eclipse.wb.internal.core.utils.reflect;
 
+import org.osgi.framework.BundleReference;
+
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 /**
  * Helper for setting properties for {@link ClassLoader}.
  * <p>
  * http://java.dzone.com/articles/classloaderlocal-how-avoid
+ * <p>
+ * Properties of each {@link ClassLoader} are kept in separate segment, so access does not require
+ * global lock. Values often reference {@link Class}'s of their {@link ClassLoader} (for example
+ * {@link ClassMap}), so segments are held strongly and removed by
+ * {@link ClassLoaderLocalMapManager} when {@link ClassLoader} of editor is deinitialized. Segments
+ * of {@link ClassLoader}'s used by other editors and of bundles are kept.
  *
  * @author Jevgeni Kabanov
  * @author scheglov_ke
  * @coverage core.util
  */
 public class ClassLoaderLocalMap {
-	private static final Object NULL_OBJECT = new Object();
-	private static final Map<Object, Map<Object, Object>> globalMap = Collections.synchronizedMap(new WeakHashMap<>());
+	private static final Map<Object, Object> NULL_SEGMENT = new ConcurrentHashMap<>();
+	private static final Map<ClassLoader, Map<Object, Object>> m_segments = new ConcurrentHashMap<>();
+	private static final Set<ClassLoader> m_editorLoaders = ConcurrentHashMap.newKeySet();
 
 	////////////////////////////////////////////////////////////////////////////
 	//
@@ -35,29 +47,87 @@ public class ClassLoaderLocalMap {
 	//
 	////////////////////////////////////////////////////////////////////////////
 	public static boolean containsKey(ClassLoader cl, Object key) {
-		synchronized (NULL_OBJECT) {
-			return getLocalMap(cl).containsKey(key);
-		}
+		Map<Object, Object> segment = getSegment(cl, false);
+		return segment != null && segment.containsKey(key);
 	}
 
+	/**
+	 * Associates given value with key. Segments don't support <code>null</code> values, so
+	 * <code>null</code> removes key, and {@link #containsKey(ClassLoader, Object)} returns
+	 * <code>false</code> after this.
+	 */
 	public static void put(ClassLoader cl, Object key, Object value) {
-		synchronized (NULL_OBJECT) {
-			getLocalMap(cl).put(key, value);
+		Map<Object, Object> segment = getSegment(cl, true);
+		if (value != null) {
+			segment.put(key, value);
+		} else {
+			segment.remove(key);
 		}
 	}
 
 	public static Object get(ClassLoader cl, Object key) {
-		synchronized (NULL_OBJECT) {
-			return getLocalMap(cl).get(key);
+		Map<Object, Object> segment = getSegment(cl, false);
+		return segment != null ? segment.get(key) : null;
+	}
+
+	/**
+	 * @return the existing value of given key, or new value from given {@link Supplier}, atomically
+	 *         associated with key.
+	 */
+	public static Object computeIfAbsent(ClassLoader cl, Object key, Supplier<?> supplier) {
+		return getSegment(cl, true).computeIfAbsent(key, ignore -> supplier.get());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Segments
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the segment with properties of given {@link ClassLoader}, may be <code>null</code> if
+	 *         no segment yet and <code>create</code> is <code>false</code>.
+	 */
+	private static Map<Object, Object> getSegment(ClassLoader cl, boolean create) {
+		if (cl == null) {
+			return NULL_SEGMENT;
+		}
+		Map<Object, Object> segment = m_segments.get(cl);
+		if (segment == null && create) {
+			segment = m_segments.computeIfAbsent(cl, ignore -> new ConcurrentHashMap<>());
+		}
+		return segment;
+	}
+
+	/**
+	 * Removes segments of given {@link ClassLoader} of editor, and of all other {@link ClassLoader}'s
+	 * which are not used by remaining editors, for example temporary project {@link ClassLoader}'s,
+	 * which are never deinitialized. Segments of bundles and of system {@link ClassLoader} are kept.
+	 */
+	private static void removeSegments(ClassLoader editorLoader) {
+		m_editorLoaders.remove(editorLoader);
+		// prepare ClassLoader's which are still used
+		Set<ClassLoader> usedLoaders = Collections.newSetFromMap(new IdentityHashMap<>());
+		addUsedLoaders(usedLoaders, ClassLoader.getSystemClassLoader());
+		for (ClassLoader classLoader : m_editorLoaders) {
+			addUsedLoaders(usedLoaders, classLoader);
 		}
+		// remove other segments
+		m_segments.keySet().removeIf(classLoader -> !(classLoader instanceof BundleReference)
+				&& !usedLoaders.contains(classLoader));
 	}
 
-	private static Map<Object, Object> getLocalMap(ClassLoader key) {
-		Object gkey = key;
-		if (gkey == null) {
-			gkey = NULL_OBJECT;
+	/**
+	 * Adds given {@link ClassLoader}, its parents and members of {@link CompositeClassLoader}'s.
+	 */
+	private static void addUsedLoaders(Set<ClassLoader> usedLoaders, ClassLoader classLoader) {
+		if (classLoader != null && usedLoaders.add(classLoader)) {
+			if (classLoader instanceof CompositeClassLoader compositeClassLoader) {
+				for (ClassLoader member : compositeClassLoader.getClassLoaders()) {
+					addUsedLoaders(usedLoaders, member);
+				}
+			}
+			addUsedLoaders(usedLoaders, classLoader.getParent());
 		}
-		return globalMap.computeIfAbsent(gkey, ignore -> new WeakHashMap<>());
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -68,12 +138,12 @@ public class ClassLoaderLocalMap {
 	public static class ClassLoaderLocalMapManager implements IClassLoaderInitializer {
 		@Override
 		public void initialize(ClassLoader classLoader) {
-			// no-op
+			m_editorLoaders.add(classLoader);
 		}
 
 		@Override
 		public void deinitialize(ClassLoader classLoader) {
-			globalMap.clear();
+			removeSegments(classLoader);
 		}
 	}
 }
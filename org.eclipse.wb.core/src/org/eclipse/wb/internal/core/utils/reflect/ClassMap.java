@@ -12,11 +12,12 @@
  *******************************************************************************/
 package org.eclipse.wb.internal.core.utils.reflect;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * {@link Map}-like interface for mapping {@link Class} to value.
+ * {@link Map}-like interface for mapping {@link Class} to value. Can be used from any thread, for
+ * example from UI thread and from background jobs.
  *
  * @author scheglov_ke
  * @coverage core.util
@@ -39,8 +40,15 @@ public final class ClassMap<V> {
 	// Map
 	//
 	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Associates given value with key, <code>null</code> removes key.
+	 */
 	public void put(Class<?> key, V value) {
-		getMap(key).put(key, value);
+		if (value != null) {
+			getMap(key).put(key, value);
+		} else {
+			getMap(key).remove(key);
+		}
 	}
 
 	public V get(Class<?> key) {
@@ -67,11 +75,6 @@ public final class ClassMap<V> {
 
 	@SuppressWarnings("unchecked")
 	private Map<Class<?>, V> getMap(ClassLoader classLoader) {
-		Object map = ClassLoaderLocalMap.get(classLoader, this);
-		if (map == null) {
-			map = new HashMap<Class<?>, V>();
-			ClassLoaderLocalMap.put(classLoader, this, map);
-		}
-		return (Map<Class<?>, V>) map;
+		return (Map<Class<?>, V>) ClassLoaderLocalMap.computeIfAbsent(classLoader, this, ConcurrentHashMap::new);
 	}
 }
@@ -1241,6 +1241,8 @@ public class ReflectionUtils {
 		return fields;
 	}
 
+	private static final ClassMap<Map<String, Field>> m_getFieldByName = ClassMap.create();
+
 	/**
 	 * @return the {@link Field} of given class with given name or <code>null</code> if no such
 	 *         {@link Field} found.
@@ -1248,30 +1250,42 @@ public class ReflectionUtils {
 	public static Field getFieldByName(Class<?> clazz, String name) {
 		Assert.isNotNull(clazz);
 		Assert.isNotNull(name);
+		// prepare cache
+		Map<String, Field> cache = m_getFieldByName.get(clazz);
+		if (cache == null) {
+			cache = getFieldsByName(clazz);
+			m_getFieldByName.put(clazz, cache);
+		}
+		// use cache
+		return cache.get(name);
+	}
+
+	/**
+	 * @return the complete not modifiable {@link Map} of names to {@link Field}s of given class, as
+	 *         they are resolved by {@link #getFieldByName(Class, String)}. It is not changed after
+	 *         creation, so can be used from any thread.
+	 */
+	private static Map<String, Field> getFieldsByName(Class<?> clazz) {
+		Map<String, Field> fields = new HashMap<>();
 		// check fields of given class and its super classes
 		while (clazz != null) {
-			// check all declared field
-			Field[] declaredFields = clazz.getDeclaredFields();
-			for (Field field : declaredFields) {
-				if (field.getName().equals(name)) {
-					return field;
-				}
+			// add all declared field
+			for (Field field : clazz.getDeclaredFields()) {
+				fields.putIfAbsent(field.getName(), field);
 			}
-			// check interfaces
-			{
-				Class<?>[] interfaceClasses = clazz.getInterfaces();
-				for (Class<?> interfaceClass : interfaceClasses) {
-					Field field = getFieldByName(interfaceClass, name);
-					if (field != null) {
-						return field;
-					}
+			// add fields of interfaces
+			for (Class<?> interfaceClass : clazz.getInterfaces()) {
+				Map<String, Field> interfaceFields = m_getFieldByName.get(interfaceClass);
+				if (interfaceFields == null) {
+					interfaceFields = getFieldsByName(interfaceClass);
+					m_getFieldByName.put(interfaceClass, interfaceFields);
 				}
+				interfaceFields.forEach(fields::putIfAbsent);
 			}
 			// check superclass
 			clazz = clazz.getSuperclass();
 		}
-		// not found
-		return null;
+		return Collections.unmodifiableMap(fields);
 	}
 
 	/**
@@ -1292,22 +1306,25 @@ public class ReflectionUtils {
 	private static Object getFieldObject(final Object object, final String name, boolean errorIfMissing) {
 		Assert.isNotNull(object);
 		Assert.isNotNull(name);
-		return ExecutionUtils.runObject(() -> {
-			Class<?> refClass = getRefClass(object);
-			Object refObject = getRefObject(object);
-			Field field = getFieldByName(refClass, name);
-			if (field == null) {
-				if (errorIfMissing) {
-					String msg = "Unable to find '%s' in '%s'".formatted(name, refClass);
-					throw new IllegalArgumentException(msg);
-				}
-				return null;
+		Class<?> refClass = getRefClass(object);
+		Object refObject = getRefObject(object);
+		Field field = getFieldByName(refClass, name);
+		if (field == null) {
+			if (errorIfMissing) {
+				String msg = "Unable to find '%s' in '%s'".formatted(name, refClass);
+				throw new IllegalArgumentException(msg);
 			}
-			if (field.trySetAccessible()) {
+			return null;
+		}
+		try {
+			if (field.canAccess(Modifier.isStatic(field.getModifiers()) ? null : refObject)
+					|| field.trySetAccessible()) {
 				return field.get(refObject);
 			}
 			return null;
-		});
+		} catch (IllegalAccessException e) {
+			throw propagate(e);
+		}
 	}
 
 	/**
@@ -1387,7 +1404,7 @@ public class ReflectionUtils {
 				}
 				return;
 			}
-			FieldUtils.writeField(getFieldByName(refClass, name), refObject, value, true);
+			FieldUtils.writeField(field, refObject, value, true);
 		} catch (IllegalAccessException e) {
 			throw propagate(e);
 		}
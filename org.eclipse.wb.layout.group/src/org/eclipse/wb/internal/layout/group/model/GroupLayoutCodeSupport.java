@@ -17,17 +17,28 @@ import org.eclipse.wb.core.model.JavaInfo;
 import org.eclipse.wb.core.model.ObjectInfoUtils;
 import org.eclipse.wb.core.model.broadcast.JavaEventListener;
 import org.eclipse.wb.internal.core.model.JavaInfoEvaluationHelper;
+import org.eclipse.wb.internal.core.model.util.TemplateUtils;
 import org.eclipse.wb.internal.core.parser.JavaInfoResolver;
+import org.eclipse.wb.internal.core.utils.ast.AstEditor;
+import org.eclipse.wb.internal.core.utils.ast.AstNodeUtils;
 import org.eclipse.wb.internal.core.utils.ast.DomGenerics;
 import org.eclipse.wb.internal.core.utils.ast.NodeTarget;
 import org.eclipse.wb.internal.core.utils.ast.StatementTarget;
 import org.eclipse.wb.internal.core.utils.exception.DesignerException;
 
 import org.eclipse.core.runtime.IAdaptable;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.ArrayCreation;
 import org.eclipse.jdt.core.dom.ArrayInitializer;
 import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+import org.eclipse.jdt.core.dom.IVariableBinding;
 import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.Name;
+import org.eclipse.jdt.core.dom.Statement;
 
 import org.netbeans.modules.form.layoutdesign.LayoutComponent;
 import org.netbeans.modules.form.layoutdesign.LayoutConstants;
@@ -220,30 +231,224 @@ public abstract class GroupLayoutCodeSupport implements LayoutConstants {
 	//
 	////////////////////////////////////////////////////////////////////////////
 	public void saveLayout(List<AbstractComponentInfo> components) throws Exception {
-		// remove all previous layout code
 		JavaInfo layoutJavaInfo = getJavaInfo();
-		layoutJavaInfo.removeMethodInvocations(SIGNATURE_SET_HORIZONTAL_GROUP);
-		layoutJavaInfo.removeMethodInvocations(SIGNATURE_SET_VERTICAL_GROUP);
+		// remove all previous layout code, if it can not be updated
+		if (!canUpdateLayoutCode()) {
+			layoutJavaInfo.removeMethodInvocations(SIGNATURE_SET_HORIZONTAL_GROUP);
+			layoutJavaInfo.removeMethodInvocations(SIGNATURE_SET_VERTICAL_GROUP);
+			layoutJavaInfo.removeMethodInvocations(SIGNATURE_LINK_SIZE_AXIS);
+		}
 		layoutJavaInfo.removeMethodInvocations(SIGNATURE_LINK_SIZE);
-		layoutJavaInfo.removeMethodInvocations(SIGNATURE_LINK_SIZE_AXIS);
-		// add generated code
 		// prepare
 		String layoutCode = prepareLayoutCode(components);
 		// fill layout
 		String horizontalGroupCode = extractGroupCode(layoutCode, ID_SET_HORIZONTAL_GROUP);
 		String verticalGroupCode = extractGroupCode(layoutCode, ID_SET_VERTICAL_GROUP);
 		{
-			layoutJavaInfo.addMethodInvocation(SIGNATURE_SET_HORIZONTAL_GROUP, horizontalGroupCode);
-			layoutJavaInfo.addMethodInvocation(SIGNATURE_SET_VERTICAL_GROUP, verticalGroupCode);
+			saveInvocations(layoutJavaInfo, SIGNATURE_SET_HORIZONTAL_GROUP, List.of(horizontalGroupCode));
+			saveInvocations(layoutJavaInfo, SIGNATURE_SET_VERTICAL_GROUP, List.of(verticalGroupCode));
 		}
 		// linked size components
 		List<String> linkSizesCode = extractLinkSizeCode(layoutCode);
-		for (String linkSizeCode : linkSizesCode) {
-			layoutJavaInfo.addMethodInvocation(SIGNATURE_LINK_SIZE_AXIS, linkSizeCode);
-		}
+		saveInvocations(layoutJavaInfo, SIGNATURE_LINK_SIZE_AXIS, linkSizesCode);
 		// TODO: add 'pack()' method invocation if needed
 	}
 
+	/**
+	 * @return <code>true</code> if existing layout code can be updated in place, <code>false</code>
+	 *         if it should be removed before generating new code.
+	 */
+	protected boolean canUpdateLayoutCode() {
+		return true;
+	}
+
+	/**
+	 * Ensures that {@link MethodInvocation}'s with given signature have given arguments. Existing
+	 * invocations are updated in place, only changed parts of arguments are replaced. If this is not
+	 * possible, invocations are removed and added again.
+	 */
+	private static void saveInvocations(JavaInfo layoutJavaInfo,
+			String signature,
+			List<String> argumentsCodes) throws Exception {
+		List<MethodInvocation> invocations = layoutJavaInfo.getMethodInvocations(signature);
+		if (invocations.size() == argumentsCodes.size()
+				&& updateInvocations(layoutJavaInfo, invocations, argumentsCodes)) {
+			return;
+		}
+		layoutJavaInfo.removeMethodInvocations(signature);
+		for (String argumentsCode : argumentsCodes) {
+			layoutJavaInfo.addMethodInvocation(signature, argumentsCode);
+		}
+	}
+
+	/**
+	 * Updates arguments of given {@link MethodInvocation}'s.
+	 *
+	 * @return <code>false</code> if structure of arguments does not match, so nothing was updated.
+	 */
+	private static boolean updateInvocations(JavaInfo layoutJavaInfo,
+			List<MethodInvocation> invocations,
+			List<String> argumentsCodes) throws Exception {
+		// parse new arguments
+		List<String> sources = new ArrayList<>();
+		List<MethodInvocation> newInvocations = new ArrayList<>();
+		for (int i = 0; i < invocations.size(); i++) {
+			MethodInvocation invocation = invocations.get(i);
+			Statement statement = AstNodeUtils.getEnclosingStatement(invocation);
+			String arguments =
+					TemplateUtils.resolve(new StatementTarget(statement, true), argumentsCodes.get(i));
+			String source = "m(" + arguments + ")";
+			MethodInvocation newInvocation = parseInvocation(source);
+			if (newInvocation == null
+					|| newInvocation.arguments().size() != invocation.arguments().size()) {
+				return false;
+			}
+			sources.add(source);
+			newInvocations.add(newInvocation);
+		}
+		// replace changed parts of arguments
+		for (int i = 0; i < invocations.size(); i++) {
+			updateArguments(
+					layoutJavaInfo,
+					DomGenerics.arguments(invocations.get(i)),
+					DomGenerics.arguments(newInvocations.get(i)),
+					sources.get(i));
+		}
+		return true;
+	}
+
+	/**
+	 * @return the {@link MethodInvocation} parsed from given source, without bindings, or
+	 *         <code>null</code> if source can not be parsed.
+	 */
+	private static MethodInvocation parseInvocation(String source) {
+		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
+		parser.setKind(ASTParser.K_EXPRESSION);
+		parser.setSource(source.toCharArray());
+		ASTNode node = parser.createAST(null);
+		if (node instanceof MethodInvocation invocation && (node.getFlags() & ASTNode.MALFORMED) == 0) {
+			return invocation;
+		}
+		return null;
+	}
+
+	private static void updateArguments(JavaInfo layoutJavaInfo,
+			List<Expression> oldArguments,
+			List<Expression> newArguments,
+			String newSource) throws Exception {
+		// copy, replaced arguments are set into same list
+		List<Expression> arguments = new ArrayList<>(oldArguments);
+		for (int i = arguments.size() - 1; i >= 0; i--) {
+			updateExpression(layoutJavaInfo, arguments.get(i), newArguments.get(i), newSource);
+		}
+	}
+
+	/**
+	 * Updates old {@link Expression} to match new one. Method invocations and arrays with same
+	 * structure are compared part by part, so only changed parts are replaced.
+	 */
+	private static void updateExpression(JavaInfo layoutJavaInfo,
+			Expression oldExpression,
+			Expression newExpression,
+			String newSource) throws Exception {
+		AstEditor editor = layoutJavaInfo.getEditor();
+		String oldCode = editor.getSource(oldExpression);
+		String newCode =
+				newSource.substring(
+						newExpression.getStartPosition(),
+						AstNodeUtils.getSourceEnd(newExpression));
+		if (isSameCode(oldExpression, oldCode, newExpression, newCode)) {
+			return;
+		}
+		// same method, compare arguments and expression
+		if (oldExpression instanceof MethodInvocation oldInvocation
+				&& newExpression instanceof MethodInvocation newInvocation
+				&& oldInvocation.getName().getIdentifier().equals(newInvocation.getName().getIdentifier())
+				&& oldInvocation.arguments().size() == newInvocation.arguments().size()
+				&& oldInvocation.getExpression() != null
+				&& newInvocation.getExpression() != null) {
+			updateArguments(
+					layoutJavaInfo,
+					DomGenerics.arguments(oldInvocation),
+					DomGenerics.arguments(newInvocation),
+					newSource);
+			updateExpression(
+					layoutJavaInfo,
+					oldInvocation.getExpression(),
+					newInvocation.getExpression(),
+					newSource);
+			return;
+		}
+		// same array type, compare elements
+		if (oldExpression instanceof ArrayCreation oldCreation
+				&& newExpression instanceof ArrayCreation newCreation
+				&& oldCreation.getInitializer() != null
+				&& newCreation.getInitializer() != null) {
+			List<Expression> oldElements = DomGenerics.expressions(oldCreation.getInitializer());
+			List<Expression> newElements = DomGenerics.expressions(newCreation.getInitializer());
+			String oldType = AstNodeUtils.getFullyQualifiedName(oldCreation.getType(), false);
+			String newType =
+					newSource.substring(
+							newCreation.getType().getStartPosition(),
+							AstNodeUtils.getSourceEnd(newCreation.getType()));
+			if (oldElements.size() == newElements.size()
+					&& removeWhitespaces(newType).equals(oldType)) {
+				updateArguments(layoutJavaInfo, oldElements, newElements, newSource);
+				return;
+			}
+		}
+		// different, replace
+		Expression replacement = editor.replaceExpression(oldExpression, newCode);
+		layoutJavaInfo.addRelatedNodes(replacement);
+	}
+
+	/**
+	 * @return <code>true</code> if given old and new code are same, ignoring whitespaces. New code
+	 *         uses fully qualified names, so old {@link Name} is compared using its binding.
+	 */
+	private static boolean isSameCode(Expression oldExpression,
+			String oldCode,
+			Expression newExpression,
+			String newCode) {
+		newCode = removeWhitespaces(newCode);
+		if (removeWhitespaces(oldCode).equals(newCode)) {
+			return true;
+		}
+		return oldExpression instanceof Name oldName
+				&& newExpression instanceof Name
+				&& newCode.equals(getQualifiedName(oldName));
+	}
+
+	/**
+	 * @return the fully qualified name of type or field referenced by given {@link Name}, or
+	 *         <code>null</code> if it can not be resolved.
+	 */
+	private static String getQualifiedName(Name name) {
+		IBinding binding = name.resolveBinding();
+		if (binding instanceof ITypeBinding typeBinding) {
+			return AstNodeUtils.getFullyQualifiedName(typeBinding, false);
+		}
+		if (binding instanceof IVariableBinding variableBinding
+				&& variableBinding.isField()
+				&& variableBinding.getDeclaringClass() != null) {
+			String typeName =
+					AstNodeUtils.getFullyQualifiedName(variableBinding.getDeclaringClass(), false);
+			return typeName + "." + variableBinding.getName();
+		}
+		return null;
+	}
+
+	private static String removeWhitespaces(String s) {
+		StringBuilder sb = new StringBuilder(s.length());
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (!Character.isWhitespace(c)) {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
 	private String extractGroupCode(String layoutCode, String invocationString) {
 		int beginIndex = layoutCode.indexOf(invocationString);
 		if (beginIndex == -1) {
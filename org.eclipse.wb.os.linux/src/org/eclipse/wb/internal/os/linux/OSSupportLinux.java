@@ -298,7 +298,7 @@ public abstract class OSSupportLinux extends OSSupport {
 
 	private boolean bindImage(final Control control, final Image image) {
 		return ExecutionUtils.runObject(() -> {
-			if (control.getData(WBP_NEED_IMAGE) != null && control.getData(WBP_IMAGE) == null) {
+			if (needsImage(control)) {
 				control.setData(WBP_IMAGE, image);
 				return true;
 			}
@@ -306,6 +306,14 @@ public abstract class OSSupportLinux extends OSSupport {
 		});
 	}
 
+	/**
+	 * @return <code>true</code> if given {@link Widget} is marked as needed image, but has no image
+	 *         yet. Screen shots of other widgets are not bound, so should not be made.
+	 */
+	protected static boolean needsImage(Widget widget) {
+		return widget.getData(WBP_NEED_IMAGE) != null && widget.getData(WBP_IMAGE) == null;
+	}
+
 	/**
 	 * Warning: single component only! Do not use for creating screen shot of hierarchy!
 	 */
@@ -1082,11 +1090,6 @@ public abstract class OSSupportLinux extends OSSupport {
 		protected Image getImageSurface(Widget widget, BiConsumer<Long, Image> callback) throws Exception {
 			long handle = findHandleValue(widget);
 			long window = _gtk_widget_get_window(handle);
-			if (!_gdk_window_is_visible(window)) {
-				// don't deal with unmapped windows
-				return null;
-			}
-
 			int[] x = new int[1], y = new int[1], width = new int[1], height = new int[1];
 			_gdk_window_get_geometry(window, x, y, width, height);
 			// force paint. Note, not all widgets do this completely, known so far is GtkTreeViewer.
@@ -1102,19 +1105,20 @@ public abstract class OSSupportLinux extends OSSupport {
 		}
 
 		private Image traverse(Widget widget, BiConsumer<Long, Image> callback) throws Exception {
-			Image image = getImageSurface(widget, callback);
-			if (image == null) {
+			long window = _gtk_widget_get_window(findHandleValue(widget));
+			if (!_gdk_window_is_visible(window)) {
+				// don't deal with unmapped windows
 				return null;
 			}
+			// shot of single widget, its children are not bound
+			if (callback == null) {
+				return getImageSurface(widget, null);
+			}
+			// don't shot widgets without model, but their children may need images
+			Image image = needsImage(widget) ? getImageSurface(widget, callback) : null;
 			if (widget instanceof Composite composite) {
 				for (Control childWidget : composite.getChildren()) {
-					Image childImage = traverse(childWidget, callback);
-					if (childImage == null) {
-						continue;
-					}
-					if (callback == null) {
-						childImage.dispose();
-					}
+					traverse(childWidget, callback);
 				}
 			}
 			return image;
@@ -155,22 +155,22 @@ public abstract class ScreenshotMaker {
 
 	private Image traverse(Widget w, BiConsumer<GtkWidget, Image> callback) {
 		GtkWidget widget = GtkWidget.from(w);
-		Image image = getImageSurface(GtkWidget.from(w));
-		if (image == null) {
-			return null;
+		// shot of single widget, its children are not bound
+		if (callback == null) {
+			return getImageSurface(widget);
 		}
-		if (callback != null) {
+		// don't shot widgets without model, but their children may need images
+		Image image = null;
+		if (needsImage(w)) {
+			image = getImageSurface(widget);
+			if (image == null) {
+				return null;
+			}
 			callback.accept(widget, image);
 		}
 		if (w instanceof Composite composite) {
 			for (Control childWidget : composite.getChildren()) {
-				Image childImage = traverse(childWidget, callback);
-				if (childImage == null) {
-					continue;
-				}
-				if (callback == null) {
-					childImage.dispose();
-				}
+				traverse(childWidget, callback);
 			}
 		}
 		return image;
@@ -185,13 +185,22 @@ public abstract class ScreenshotMaker {
 	protected abstract Image getImageSurface(GtkWidget widget);
 
 	private boolean bindImage(final Control control, final Image image) {
-		if (control.getData(OSSupport.WBP_NEED_IMAGE) != null && control.getData(OSSupport.WBP_IMAGE) == null) {
+		if (needsImage(control)) {
 			control.setData(OSSupport.WBP_IMAGE, image);
 			return true;
 		}
 		return false;
 	}
 
+	/**
+	 * @return {@code true} if given {@link Widget} is marked as needed image, but has
+	 *         no image yet. Screen shots of other widgets are not bound, so should not
+	 *         be made.
+	 */
+	private static boolean needsImage(Widget widget) {
+		return widget.getData(OSSupport.WBP_NEED_IMAGE) != null && widget.getData(OSSupport.WBP_IMAGE) == null;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Utils
@@ -19,6 +19,7 @@ import org.eclipse.wb.internal.core.databinding.model.ObserveComparator;
 import org.eclipse.wb.internal.core.databinding.model.reference.StringReferenceProvider;
 import org.eclipse.wb.internal.core.databinding.parser.IModelResolver;
 import org.eclipse.wb.internal.core.databinding.ui.decorate.IObserveDecorator;
+import org.eclipse.wb.internal.core.databinding.utils.BeanIntrospectionCache;
 import org.eclipse.wb.internal.core.databinding.utils.CoreUtils;
 import org.eclipse.wb.internal.core.utils.ui.ImageUtils;
 import org.eclipse.wb.internal.rcp.databinding.Activator;
@@ -37,16 +38,12 @@ import org.eclipse.wb.internal.rcp.databinding.ui.providers.TypeImageProvider;
 
 import org.eclipse.jface.resource.ImageDescriptor;
 
-import org.apache.commons.lang3.ClassUtils;
-
 import java.beans.BeanInfo;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -131,7 +128,8 @@ public final class BeanSupport {
 			boolean version_1_3 =
 					Activator.getStore().getBoolean(IPreferenceConstants.GENERATE_CODE_FOR_VERSION_1_3);
 			// load properties
-			for (PropertyDescriptor descriptor : getPropertyDescriptors(beanClass)) {
+			List<PropertyDescriptor> descriptors = BeanIntrospectionCache.getPropertyDescriptors(beanClass);
+			for (PropertyDescriptor descriptor : descriptors) {
 				Class<?> propertyType = descriptor.getPropertyType();
 				//
 				if (topLevel
@@ -330,24 +328,11 @@ public final class BeanSupport {
 	// Descriptors
 	//
 	////////////////////////////////////////////////////////////////////////////
-	private final Map<Class<?>, List<PropertyDescriptor>> m_classToDescriptors = new HashMap<>();
-
 	/**
-	 * @return {@link PropertyDescriptor} properties for given bean {@link Class}.
+	 * @return {@link PropertyDescriptor} properties for given bean {@link Class}, sorted by name.
 	 */
 	public List<PropertyDescriptor> getLocalPropertyDescriptors(Class<?> beanClass) throws Exception {
-		List<PropertyDescriptor> descriptors = m_classToDescriptors.get(beanClass);
-		if (descriptors == null) {
-			descriptors = getPropertyDescriptors(beanClass);
-			m_classToDescriptors.put(beanClass, descriptors);
-			Collections.sort(descriptors, new Comparator<PropertyDescriptor>() {
-				@Override
-				public int compare(PropertyDescriptor descriptor1, PropertyDescriptor descriptor2) {
-					return descriptor1.getName().compareTo(descriptor2.getName());
-				}
-			});
-		}
-		return descriptors;
+		return BeanIntrospectionCache.getSortedPropertyDescriptors(beanClass);
 	}
 
 	/**
@@ -355,55 +340,7 @@ public final class BeanSupport {
 	 */
 	public static List<PropertyDescriptor> getPropertyDescriptors(Class<?> beanClass)
 			throws Exception {
-		List<PropertyDescriptor> descriptors = new ArrayList<>();
-		// handle interfaces
-		if (beanClass.isInterface() || Modifier.isAbstract(beanClass.getModifiers())) {
-			List<Class<?>> interfaces = CoreUtils.cast(ClassUtils.getAllInterfaces(beanClass));
-			for (Class<?> i : interfaces) {
-				BeanInfo beanInfo = Introspector.getBeanInfo(i);
-				addDescriptors(descriptors, beanInfo.getPropertyDescriptors());
-			}
-		}
-		// handle bean
-		BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-		addDescriptors(descriptors, beanInfo.getPropertyDescriptors());
-		//
-		return descriptors;
-	}
-
-	private static void addDescriptors(List<PropertyDescriptor> descriptors,
-			PropertyDescriptor[] newDescriptors) {
-		int count = descriptors.size();
-		if (count > 0) {
-			// filter equal properties
-			for (int i = 0; i < newDescriptors.length; i++) {
-				PropertyDescriptor newDescriptor = newDescriptors[i];
-				if (newDescriptor.getPropertyType() == null) {
-					continue;
-				}
-				//
-				String name = newDescriptor.getName();
-				boolean addDescriptor = true;
-				//
-				for (int j = 0; j < count; j++) {
-					PropertyDescriptor descriptor = descriptors.get(j);
-					if (name.equals(descriptor.getName())) {
-						addDescriptor = false;
-						break;
-					}
-				}
-				if (addDescriptor) {
-					descriptors.add(newDescriptor);
-				}
-			}
-		} else {
-			// add all properties
-			for (PropertyDescriptor descriptor : newDescriptors) {
-				if (descriptor.getPropertyType() != null) {
-					descriptors.add(descriptor);
-				}
-			}
-		}
+		return new ArrayList<>(BeanIntrospectionCache.getPropertyDescriptors(beanClass));
 	}
 
 	////////////////////////////////////////////////////////////////////////////
@@ -125,6 +125,12 @@ LayoutConstants {
 	// Save
 	//
 	////////////////////////////////////////////////////////////////////////////
+	@Override
+	protected boolean canUpdateLayoutCode() {
+		// old layout is converted, so its code should be generated from scratch
+		return !m_isOldLayout;
+	}
+
 	@Override
 	protected final String prepareLayoutCode(List<AbstractComponentInfo> components) throws Exception {
 		// generate always new layout code
@@ -44,8 +44,14 @@ import java.awt.Point;
 import java.awt.Window;
 import java.awt.image.BufferedImage;
 import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
 import java.awt.image.ImageConsumer;
 import java.awt.image.ImageProducer;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Hashtable;
@@ -234,7 +240,10 @@ public class SwingImageUtils {
 			Map<Component, java.awt.Image> componentImages,
 			Component rootComponent) throws Exception {
 		if (componentImages.containsKey(component) && component != rootComponent) {
-			BufferedImage thisComponentImage = (BufferedImage) createComponentShotAWT(component);
+			BufferedImage thisComponentImage = createComponentShotView(component, componentImages, rootComponent);
+			if (thisComponentImage == null) {
+				thisComponentImage = (BufferedImage) createComponentShotAWT(component);
+			}
 			// BUG in OS X (Java 1.6.0_24-b07-334-10M3326): Component.printAll() returns no image
 			// for AWT components and these components are not drawn on the JComponent container
 			// using the same printAll() method.
@@ -264,6 +273,68 @@ public class SwingImageUtils {
 		}
 	}
 
+	/**
+	 * Prepares the shot of given {@link Component} as view of the already printed image of root
+	 * {@link Component}, i.e. without printing and copying pixels.
+	 *
+	 * @return the {@link BufferedImage} sharing pixels with image of root {@link Component}, or
+	 *         <code>null</code> if image of given {@link Component} is not fully visible there. Image
+	 *         of not opaque {@link Component} also shows components below it, so it is also
+	 *         <code>null</code>.
+	 */
+	private static BufferedImage createComponentShotView(Component component,
+			Map<Component, java.awt.Image> componentImages,
+			Component rootComponent) {
+		if (!(component instanceof JComponent jcomponent)
+				|| !jcomponent.isOpaque()
+				|| !component.isShowing()
+				|| component.getWidth() == 0
+				|| component.getHeight() == 0
+				|| !(componentImages.get(rootComponent) instanceof BufferedImage rootImage)) {
+			return null;
+		}
+		double zoom = getDisplayZoom(component);
+		if (zoom != getDisplayZoom(rootComponent)) {
+			return null;
+		}
+		// component should not be clipped by its parents or covered by siblings painted above it,
+		// Swing paints children with lower index on top
+		java.awt.Rectangle bounds = SwingUtilities.convertRectangle(
+				component.getParent(),
+				component.getBounds(),
+				rootComponent);
+		for (Component child = component; child != rootComponent; child = child.getParent()) {
+			Container parent = child.getParent();
+			if (parent == null) {
+				return null;
+			}
+			java.awt.Rectangle parentBounds = SwingUtilities.convertRectangle(
+					parent,
+					new java.awt.Rectangle(parent.getSize()),
+					rootComponent);
+			if (!parentBounds.contains(bounds)) {
+				return null;
+			}
+			for (Component sibling : parent.getComponents()) {
+				if (sibling == child) {
+					break;
+				}
+				if (sibling.isVisible() && sibling.getBounds().intersects(child.getBounds())) {
+					return null;
+				}
+			}
+		}
+		// prepare view
+		int x = (int) (bounds.x * zoom);
+		int y = (int) (bounds.y * zoom);
+		int width = Math.max(1, (int) (bounds.width * zoom));
+		int height = Math.max(1, (int) (bounds.height * zoom));
+		if (x < 0 || y < 0 || x + width > rootImage.getWidth() || y + height > rootImage.getHeight()) {
+			return null;
+		}
+		return rootImage.getSubimage(x, y, width, height);
+	}
+
 	/**
 	 * Keep weak references to Window for save/restore it's focusable state.
 	 */
@@ -605,6 +676,12 @@ public class SwingImageUtils {
 				graphics.dispose();
 				imageToUse = scaledImageToUse;
 			}
+			{
+				ImageData swtImageData = createImageDataDirect(imageToUse);
+				if (swtImageData != null) {
+					return swtImageData;
+				}
+			}
 			final ImageProducer source = imageToUse.getSource();
 			final int imageWidth = imageToUse.getWidth();
 			final int imageHeight = imageToUse.getHeight();
@@ -613,6 +690,46 @@ public class SwingImageUtils {
 			source.startProduction(new AwtToSwtImageConverter(imageToUse, swtImageData));
 			return swtImageData;
 		}
+
+		/**
+		 * Copies pixels of {@link BufferedImage} backed by {@link DataBufferInt} with RGB pixels into
+		 * 32-bit {@link ImageData}, whole rows at once.
+		 *
+		 * @return the {@link ImageData}, or <code>null</code> if {@link BufferedImage} has other
+		 *         layout of pixels.
+		 */
+		private static ImageData createImageDataDirect(BufferedImage image) {
+			WritableRaster raster = image.getRaster();
+			if (!(raster.getDataBuffer() instanceof DataBufferInt dataBuffer)
+					|| !(raster.getSampleModel() instanceof SinglePixelPackedSampleModel sampleModel)
+					|| !(image.getColorModel() instanceof DirectColorModel colorModel)
+					|| colorModel.hasAlpha()
+					|| colorModel.getRedMask() != 0xFF0000
+					|| colorModel.getGreenMask() != 0x00FF00
+					|| colorModel.getBlueMask() != 0x0000FF) {
+				return null;
+			}
+			int width = image.getWidth();
+			int height = image.getHeight();
+			int scanlineStride = sampleModel.getScanlineStride();
+			// raster of sub-image shares data with its parent, so take its location into account
+			int offset = dataBuffer.getOffset()
+					- raster.getSampleModelTranslateY() * scanlineStride
+					- raster.getSampleModelTranslateX();
+			int[] pixels = dataBuffer.getData();
+			// 32-bit ImageData has no padding, and its big-endian pixels use same masks
+			PaletteData swtPaletteData = new PaletteData(0xFF0000, 0x00FF00, 0x0000FF);
+			ImageData swtImageData = new ImageData(width, height, 32, swtPaletteData);
+			IntBuffer swtPixels = ByteBuffer.wrap(swtImageData.data).asIntBuffer();
+			if (scanlineStride == width) {
+				swtPixels.put(pixels, offset, width * height);
+			} else {
+				for (int y = 0; y < height; y++) {
+					swtPixels.put(pixels, offset + y * scanlineStride, width);
+				}
+			}
+			return swtImageData;
+		}
 	}
 
 	/**
@@ -171,23 +171,35 @@ public final class SwingScreenshotMaker {
 				Point p_window = SwingUtils.getScreenLocation(m_window);
 				componentLocation = new Point(p_component.x - p_window.x, p_component.y - p_window.y);
 			}
-			// copy part of window image
-			BufferedImage componentImage = new BufferedImage(componentWidth, componentHeight,
-					BufferedImage.TYPE_INT_RGB);
-			Graphics2D graphics = componentImage.createGraphics();
-			graphics.drawImage(
-					windowImage,
-					0,
-					0,
-					componentWidth,
-					componentHeight,
-					componentLocation.x,
-					componentLocation.y,
-					componentLocation.x + componentWidth,
-					componentLocation.y + componentHeight,
-					m_window);
-			graphics.dispose();
-			image = componentImage;
+			if (componentLocation.x >= 0
+					&& componentLocation.y >= 0
+					&& componentLocation.x + componentWidth <= windowImage.getWidth()
+					&& componentLocation.y + componentHeight <= windowImage.getHeight()) {
+				// use part of window image, without copying
+				image = windowImage.getSubimage(
+						componentLocation.x,
+						componentLocation.y,
+						componentWidth,
+						componentHeight);
+			} else {
+				// copy part of window image
+				BufferedImage componentImage = new BufferedImage(componentWidth, componentHeight,
+						BufferedImage.TYPE_INT_RGB);
+				Graphics2D graphics = componentImage.createGraphics();
+				graphics.drawImage(
+						windowImage,
+						0,
+						0,
+						componentWidth,
+						componentHeight,
+						componentLocation.x,
+						componentLocation.y,
+						componentLocation.x + componentWidth,
+						componentLocation.y + componentHeight,
+						m_window);
+				graphics.dispose();
+				image = componentImage;
+			}
 		}
 		// store image for top-level first
 		m_componentImages.put(m_component, image);
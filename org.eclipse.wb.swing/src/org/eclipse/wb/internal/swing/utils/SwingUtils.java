@@ -128,11 +128,20 @@ public final class SwingUtils {
 			return;
 		}
 		final AtomicBoolean done = new AtomicBoolean();
-		SwingUtilities.invokeLater(() -> done.set(true));
-		// wait and pump SWT message loop
-		while (!done.get()) {
-			ExecutionUtils.waitEventLoop(0);
+		Display display = Display.getCurrent();
+		if (display == null) {
+			SwingUtilities.invokeLater(() -> done.set(true));
+			while (!done.get()) {
+				ExecutionUtils.waitEventLoop(0);
+			}
+			return;
 		}
+		SwingUtilities.invokeLater(() -> {
+			done.set(true);
+			display.wake();
+		});
+		// wait and pump SWT message loop
+		waitEventLoop(display, done);
 	}
 
 	/**
@@ -190,12 +199,16 @@ public final class SwingUtils {
 				// set new Synchronizer, do not use Display.setSynchronizer() because it
 				// gets pending events executed
 				setSynchronizer(display, newSynchronizer);
-				// schedule runnable to AWT dispatch thread
-				SwingUtilities.invokeLater(job);
+				// schedule runnable to AWT dispatch thread, wake up SWT when done
+				SwingUtilities.invokeLater(() -> {
+					try {
+						job.run();
+					} finally {
+						display.wake();
+					}
+				});
 				// wait and pump SWT message loop
-				while (!done.get()) {
-					ExecutionUtils.waitEventLoop(0);
-				}
+				waitEventLoop(display, done);
 			} finally {
 				setMainShellEnabled(true);
 				if (displayListener != null) {
@@ -210,6 +223,19 @@ public final class SwingUtils {
 		}
 	}
 
+	/**
+	 * Pumps SWT message loop until given flag is set. Sleeps when there are no messages, instead of
+	 * spinning, so AWT dispatch thread has the CPU while it renders. Whoever sets the flag should
+	 * {@link Display#wake()} the {@link Display}.
+	 */
+	private static void waitEventLoop(Display display, AtomicBoolean done) {
+		while (!done.get()) {
+			if (!display.readAndDispatch() && !done.get()) {
+				display.sleep();
+			}
+		}
+	}
+
 	private static void propagateIfNotNull(Throwable throwable) {
 		if (throwable != null) {
 			ReflectionUtils.propagate(throwable);
@@ -60,7 +60,7 @@ public final class BundleImageResource extends ImageResource {
 			// load image
 			Image image;
 			try {
-				InputStream stream = m_url.openStream();
+				InputStream stream = getContents();
 				try {
 					image = new Image(Display.getCurrent(), stream);
 				} finally {
@@ -79,6 +79,11 @@ public final class BundleImageResource extends ImageResource {
 		return m_imageInfo;
 	}
 
+	@Override
+	public InputStream getContents() throws Exception {
+		return m_url.openStream();
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// IImageElement
@@ -56,7 +56,7 @@ public final class FileImageResource extends ImageResource {
 				// load image
 				Image image;
 				try {
-					InputStream inputStream = m_resource.getContents(true);
+					InputStream inputStream = getContents();
 					try {
 						image = new Image(Display.getCurrent(), inputStream);
 					} finally {
@@ -78,6 +78,11 @@ public final class FileImageResource extends ImageResource {
 		return m_imageInfo;
 	}
 
+	@Override
+	public InputStream getContents() throws Exception {
+		return m_resource.getContents(true);
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// IImageElement
@@ -1595,6 +1595,37 @@ public class ExecutionFlowUtilsTest extends AbstractEngineTest {
 		assertSame(expectedAssignment, getLastAssignment(flowDescription, variable));
 	}
 
+	/**
+	 * Condition of lazy creation is not on execution flow, so last assignment is taken from
+	 * declaration. It should not depend on requesting references before.
+	 */
+	@Test
+	public void test_findLastAssignment_lazyCondition_beforeReferences() throws Exception {
+		TypeDeclaration typeDeclaration = createTypeDeclaration_Test("""
+				public class Test {
+					private Object lazy;
+					public Test() {
+						getLazy();
+					}
+					private Object getLazy() {
+						if (lazy == null) {
+							lazy = new Object();
+						}
+						return lazy;
+					}
+				}""");
+		MethodDeclaration constructor = typeDeclaration.getMethods()[0];
+		ExecutionFlowDescription flowDescription = new ExecutionFlowDescription(constructor);
+		ASTNode variable = m_lastEditor.getEnclosingNode("lazy == null");
+		ASTNode expected = m_lastEditor.getEnclosingNode("lazy = new Object()").getParent();
+		assertInstanceOf(Assignment.class, expected);
+		// last assignment first
+		assertSame(expected, getLastAssignment(flowDescription, variable));
+		// references do not change it
+		assertTrue(getReferences(flowDescription, variable).contains(variable));
+		assertSame(expected, getLastAssignment(flowDescription, variable));
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// getFinalExpression
@@ -698,6 +698,67 @@ public class JavaInfoTest extends SwingModelTest {
 		}
 	}
 
+	/**
+	 * {@link JavaInfo#getMethodInvocations(String)} should reflect added and removed invocations.
+	 */
+	@Test
+	public void test_getMethodInvocations_afterChanges() throws Exception {
+		JavaInfo panel =
+				parseContainer(
+						"class Test {",
+						"  public static void main(String args[]) {",
+						"    JPanel panel = new JPanel();",
+						"    panel.setEnabled(false);",
+						"  }",
+						"}");
+		assertEquals(1, panel.getMethodInvocations("setEnabled(boolean)").size());
+		assertEquals(0, panel.getMethodInvocations("setVisible(boolean)").size());
+		// add invocation
+		MethodInvocation newInvocation = panel.addMethodInvocation("setVisible(boolean)", "true");
+		assertEquals(1, panel.getMethodInvocations("setEnabled(boolean)").size());
+		assertSame(newInvocation, panel.getMethodInvocation("setVisible(boolean)"));
+		// remove invocations
+		panel.removeMethodInvocations("setEnabled(boolean)");
+		assertEquals(0, panel.getMethodInvocations("setEnabled(boolean)").size());
+		assertSame(newInvocation, panel.getMethodInvocation("setVisible(boolean)"));
+		assertEditor(
+				"class Test {",
+				"  public static void main(String args[]) {",
+				"    JPanel panel = new JPanel();",
+				"    panel.setVisible(true);",
+				"  }",
+				"}");
+	}
+
+	/**
+	 * {@link JavaInfo#getMethodInvocations(String)} should reflect invocation renamed in place.
+	 */
+	@Test
+	public void test_getMethodInvocations_afterRename() throws Exception {
+		JavaInfo panel =
+				parseContainer(
+						"class Test {",
+						"  public static void main(String args[]) {",
+						"    JPanel panel = new JPanel();",
+						"    panel.setEnabled(false);",
+						"  }",
+						"}");
+		MethodInvocation invocation = panel.getMethodInvocation("setEnabled(boolean)");
+		assertNotNull(invocation);
+		assertNull(panel.getMethodInvocation("setVisible(boolean)"));
+		// rename, same number of related nodes
+		panel.getEditor().replaceInvocationName(invocation, "setVisible");
+		assertNull(panel.getMethodInvocation("setEnabled(boolean)"));
+		assertSame(invocation, panel.getMethodInvocation("setVisible(boolean)"));
+		assertEditor(
+				"class Test {",
+				"  public static void main(String args[]) {",
+				"    JPanel panel = new JPanel();",
+				"    panel.setVisible(false);",
+				"  }",
+				"}");
+	}
+
 	/**
 	 * Test for {@link JavaInfo#getMethodInvocations()}. For code like
 	 * <code>new Component().setFoo()</code> invocation <code>setFoo()</code> also should be added.
@@ -947,6 +947,101 @@ public class ObjectInfoTest extends DesignerTestCase {
 		}
 	}
 
+	public interface BroadcastTestReturnInterface {
+		boolean invoke(int value, String text);
+	}
+
+	/**
+	 * Listeners are notified in order of adding, with same arguments, and broadcast returns default
+	 * value, not value of any listener.
+	 */
+	@Test
+	public void test_broadcast_order() throws Exception {
+		TestObjectInfo object = new TestObjectInfo("object");
+		final StringBuffer buffer = new StringBuffer();
+		for (int i = 0; i < 3; i++) {
+			final int index = i;
+			object.addBroadcastListener(new BroadcastTestReturnInterface() {
+				@Override
+				public boolean invoke(int value, String text) {
+					buffer.append(index + " " + value + " " + text + "\n");
+					return true;
+				}
+			});
+		}
+		// send broadcast
+		boolean result = object.getBroadcast(BroadcastTestReturnInterface.class).invoke(5, "text");
+		assertFalse(result);
+		assertEquals("0 5 text\n1 5 text\n2 5 text\n", buffer.toString());
+	}
+
+	/**
+	 * Listeners added or removed during broadcast don't change current broadcast, but are used for
+	 * next one.
+	 */
+	@Test
+	public void test_broadcast_addRemoveDuringBroadcast() throws Exception {
+		final TestObjectInfo object = new TestObjectInfo("object");
+		final StringBuffer buffer = new StringBuffer();
+		final BroadcastTestInterface listener_2 = new BroadcastTestInterface() {
+			@Override
+			public void invoke() {
+				buffer.append("2");
+			}
+		};
+		final BroadcastTestInterface listener_3 = new BroadcastTestInterface() {
+			@Override
+			public void invoke() {
+				buffer.append("3");
+			}
+		};
+		BroadcastTestInterface listener_1 = new BroadcastTestInterface() {
+			@Override
+			public void invoke() {
+				buffer.append("1");
+				object.removeBroadcastListener(listener_2);
+				object.addBroadcastListener(listener_3);
+			}
+		};
+		object.addBroadcastListener(listener_1);
+		object.addBroadcastListener(listener_2);
+		// "listener_2" is removed, but still notified; "listener_3" is added, but not notified
+		object.getBroadcast(BroadcastTestInterface.class).invoke();
+		assertEquals("12", buffer.toString());
+		// next broadcast uses new listeners
+		buffer.setLength(0);
+		object.getBroadcast(BroadcastTestInterface.class).invoke();
+		assertEquals("13", buffer.toString());
+	}
+
+	/**
+	 * Exception in listener is thrown from broadcast as is, and following listeners are not notified.
+	 */
+	@Test
+	public void test_broadcast_exception() throws Exception {
+		TestObjectInfo object = new TestObjectInfo("object");
+		final StringBuffer buffer = new StringBuffer();
+		final Exception exception = new Exception("msg");
+		object.addBroadcastListener(new ObjectEventListener() {
+			@Override
+			public void dispose() throws Exception {
+				buffer.append("1");
+				throw exception;
+			}
+		});
+		object.addBroadcastListener(new ObjectEventListener() {
+			@Override
+			public void dispose() throws Exception {
+				buffer.append("2");
+			}
+		});
+		// send broadcast
+		Exception e =
+				assertThrows(Exception.class, () -> object.getBroadcast(ObjectEventListener.class).dispose());
+		assertSame(exception, e);
+		assertEquals("1", buffer.toString());
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// start/commit/endEdit
@@ -20,6 +20,7 @@ import org.eclipse.wb.internal.core.model.description.factory.FactoryMethodDescr
 import org.eclipse.wb.internal.core.model.description.helpers.FactoryDescriptionHelper;
 import org.eclipse.wb.internal.core.utils.ast.AstEditor;
 import org.eclipse.wb.internal.core.utils.exception.DesignerExceptionUtils;
+import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 import org.eclipse.wb.internal.core.utils.state.EditorWarning;
 import org.eclipse.wb.internal.core.utils.ui.UiUtils;
 import org.eclipse.wb.internal.swing.model.component.ComponentInfo;
@@ -28,6 +29,7 @@ import org.eclipse.wb.tests.designer.swing.SwingModelTest;
 import org.eclipse.wb.tests.designer.tests.Activator;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.dom.MethodDeclaration;
@@ -1346,6 +1348,135 @@ public class FactoryDescriptionHelperTest extends SwingModelTest {
 		assertNull(getFactoryUnit(panel));
 	}
 
+	/**
+	 * Information about unit is remembered, but unit is read again after change.
+	 */
+	@Test
+	public void test_getFactoryUnits_tagAdded() throws Exception {
+		ICompilationUnit factoryUnit =
+				createModelCompilationUnit(
+						"test",
+						"StaticFactory_.java",
+						getTestSource(
+								"public final class StaticFactory_ {",
+								"  public static JButton createButton(String text) {",
+								"    return new JButton(text);",
+								"  }",
+								"}"));
+		waitForAutoBuild();
+		// parse, just for context
+		ContainerInfo panel =
+				parseContainer(
+						"// filler filler filler",
+						"public class Test extends JPanel {",
+						"  public Test() {",
+						"  }",
+						"}");
+		assertNull(getFactoryUnit(panel));
+		// add tag
+		setFileContentSrc(
+				"test/StaticFactory_.java",
+				getTestSource(
+						"public final class StaticFactory_ {",
+						"  /**",
+						"  * @wbp.factory",
+						"  */",
+						"  public static JButton createButton(String text) {",
+						"    return new JButton(text);",
+						"  }",
+						"}"));
+		waitForAutoBuild();
+		panel =
+				parseContainer(
+						"// filler filler filler",
+						"public class Test extends JPanel {",
+						"  public Test() {",
+						"  }",
+						"}");
+		assertEquals(factoryUnit, getFactoryUnit(panel));
+	}
+
+	/**
+	 * Unsaved content of unit is used, but not remembered.
+	 */
+	@Test
+	public void test_getFactoryUnits_unsavedChanges() throws Exception {
+		ICompilationUnit factoryUnit =
+				createModelCompilationUnit(
+						"test",
+						"StaticFactory_.java",
+						getTestSource(
+								"public final class StaticFactory_ {",
+								"  public static JButton createButton(String text) {",
+								"    return new JButton(text);",
+								"  }",
+								"}"));
+		waitForAutoBuild();
+		// parse, just for context
+		ContainerInfo panel =
+				parseContainer(
+						"// filler filler filler",
+						"public class Test extends JPanel {",
+						"  public Test() {",
+						"  }",
+						"}");
+		assertNull(getFactoryUnit(panel));
+		// add tag, but don't save
+		factoryUnit.becomeWorkingCopy(null);
+		try {
+			factoryUnit.getBuffer().setContents(
+					getTestSource(
+							"public final class StaticFactory_ {",
+							"  /**",
+							"  * @wbp.factory",
+							"  */",
+							"  public static JButton createButton(String text) {",
+							"    return new JButton(text);",
+							"  }",
+							"}"));
+			assertTrue(factoryUnit.hasUnsavedChanges());
+			assertEquals(factoryUnit, getFactoryUnit(panel));
+		} finally {
+			factoryUnit.discardWorkingCopy();
+		}
+		// saved content is used again
+		assertNull(getFactoryUnit(panel));
+	}
+
+	/**
+	 * Information about removed unit is dropped.
+	 */
+	@Test
+	public void test_getFactoryUnits_unitRemoved() throws Exception {
+		ICompilationUnit factoryUnit =
+				createModelCompilationUnit(
+						"test",
+						"StaticFactory_.java",
+						getTestSource(
+								"public final class StaticFactory_ {",
+								"  public static JButton createButton(String text) {",
+								"    return new JButton(text);",
+								"  }",
+								"}"));
+		waitForAutoBuild();
+		// parse, just for context
+		ContainerInfo panel =
+				parseContainer(
+						"// filler filler filler",
+						"public class Test extends JPanel {",
+						"  public Test() {",
+						"  }",
+						"}");
+		assertNull(getFactoryUnit(panel));
+		Map<?, ?> factoryUnits =
+				(Map<?, ?>) ReflectionUtils.getFieldObject(FactoryDescriptionHelper.class, "m_factoryUnits");
+		IResource resource = factoryUnit.getResource();
+		assertTrue(factoryUnits.containsKey(resource));
+		// remove unit
+		resource.delete(true, null);
+		assertFalse(factoryUnits.containsKey(resource));
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// isFactoryInvocation()
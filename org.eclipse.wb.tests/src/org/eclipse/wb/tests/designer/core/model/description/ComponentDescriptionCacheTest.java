@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.model.description;
+
+import org.eclipse.wb.core.databinding.xsd.component.Component;
+import org.eclipse.wb.internal.core.model.description.helpers.ComponentDescriptionCache;
+import org.eclipse.wb.internal.core.model.description.resource.ResourceInfo;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.w3c.dom.Element;
+
+/**
+ * Test for {@link ComponentDescriptionCache}.
+ */
+public class ComponentDescriptionCacheTest extends DesignerTestCase {
+	private File m_file;
+
+	@Override
+	@AfterEach
+	public void tearDown() throws Exception {
+		if (m_file != null) {
+			m_file.delete();
+		}
+		super.tearDown();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Tests
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Test
+	public void test_sameContent() throws Exception {
+		ResourceInfo resourceInfo = createResource("first");
+		Component component = ComponentDescriptionCache.getComponent(resourceInfo);
+		assertEquals("first", component.getDescription());
+		// disk cache is not used again
+		File cacheFile = ComponentDescriptionCache.getCacheFile(resourceInfo);
+		assertTrue(cacheFile.delete());
+		assertEquals("first", ComponentDescriptionCache.getComponent(resourceInfo).getDescription());
+		assertFalse(cacheFile.exists());
+	}
+
+	/**
+	 * Models are used by editors and by background jobs, and DOM is not thread safe, so each request
+	 * returns new model.
+	 */
+	@Test
+	public void test_notShared() throws Exception {
+		ResourceInfo resourceInfo = createResource("first", "<standard-bean-properties/>");
+		Component component = ComponentDescriptionCache.getComponent(resourceInfo);
+		Component component2 = ComponentDescriptionCache.getComponent(resourceInfo);
+		assertNotSame(component, component2);
+		assertNotSame(component.getStandardBeanProperties(), component2.getStandardBeanProperties());
+		// modification of one model is not visible in other models
+		component2.setDescription("modified");
+		assertEquals("first", ComponentDescriptionCache.getComponent(resourceInfo).getDescription());
+	}
+
+	@Test
+	public void test_modifiedContent() throws Exception {
+		ResourceInfo resourceInfo = createResource("first");
+		Component component = ComponentDescriptionCache.getComponent(resourceInfo);
+		assertEquals("first", component.getDescription());
+		// modify description, new content should be used
+		setContent("second");
+		component = ComponentDescriptionCache.getComponent(resourceInfo);
+		assertEquals("second", component.getDescription());
+	}
+
+	/**
+	 * Content of resource is not read again while its modification time and size are the same.
+	 */
+	@Test
+	public void test_sameStamp() throws Exception {
+		ResourceInfo resourceInfo = createResource("first");
+		assertEquals("first", ComponentDescriptionCache.getComponent(resourceInfo).getDescription());
+		// replace content, but keep size and modification time
+		long lastModified = m_file.lastModified();
+		setContent("other");
+		assertTrue(m_file.setLastModified(lastModified));
+		assertEquals("first", ComponentDescriptionCache.getComponent(resourceInfo).getDescription());
+	}
+
+	@Test
+	public void test_clear() throws Exception {
+		ResourceInfo resourceInfo = createResource("first");
+		Component component = ComponentDescriptionCache.getComponent(resourceInfo);
+		ComponentDescriptionCache.clear();
+		Component newComponent = ComponentDescriptionCache.getComponent(resourceInfo);
+		assertNotSame(component, newComponent);
+		assertEquals("first", newComponent.getDescription());
+	}
+
+	/**
+	 * Model should be written to disk and read back, including content of elements
+	 * without schema type, which JAXB represents as DOM {@link Element}.
+	 */
+	@Test
+	public void test_diskRoundTrip() throws Exception {
+		ResourceInfo resourceInfo = createResource("first", "<standard-bean-properties/>");
+		Component component = ComponentDescriptionCache.getComponent(resourceInfo);
+		assertInstanceOf(Element.class, component.getStandardBeanProperties());
+		// model is written to disk, mark cache file to detect re-creation
+		File cacheFile = ComponentDescriptionCache.getCacheFile(resourceInfo);
+		assertNotNull(cacheFile);
+		assertTrue(cacheFile.exists());
+		assertTrue(cacheFile.setLastModified(1000L));
+		// read from disk
+		ComponentDescriptionCache.clearMemory();
+		Component diskComponent = ComponentDescriptionCache.getComponent(resourceInfo);
+		assertNotSame(component, diskComponent);
+		assertEquals("first", diskComponent.getDescription());
+		{
+			Element element = (Element) diskComponent.getStandardBeanProperties();
+			assertEquals("standard-bean-properties", element.getLocalName());
+		}
+		// disk entry was used, not discarded and written again
+		assertTrue(cacheFile.exists());
+		assertEquals(1000L, cacheFile.lastModified());
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private ResourceInfo createResource(String description) throws Exception {
+		return createResource(description, "");
+	}
+
+	private ResourceInfo createResource(String description, String elements) throws Exception {
+		m_file = File.createTempFile("testcase", ".wbp-component.xml");
+		setContent(description, elements);
+		return new ResourceInfo(null, null, m_file.toURI().toURL());
+	}
+
+	private void setContent(String description) throws Exception {
+		setContent(description, "");
+	}
+
+	private void setContent(String description, String elements) throws Exception {
+		String content = getSourceDQ(
+				"<?xml version='1.0' encoding='UTF-8'?>",
+				"<component xmlns='http://www.eclipse.org/wb/WBPComponent'>",
+				"  <description>" + description + "</description>",
+				"  " + elements,
+				"</component>");
+		Files.writeString(m_file.toPath(), content, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2024 Google, Inc.
+ * Copyright (c) 2011, 2026 Google, Inc.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -36,6 +36,7 @@ import org.junit.platform.suite.api.Suite;
 		MorphingTargetDescriptionTest.class,
 		DescriptionVersionsProvidersTest.class,
 		ComponentDescriptionHelperTest.class,
+		ComponentDescriptionCacheTest.class,
 		GenericPropertyDescriptionTest.class,
 		BeanPropertyTagsTest.class,
 		MethodPropertyRuleTest.class
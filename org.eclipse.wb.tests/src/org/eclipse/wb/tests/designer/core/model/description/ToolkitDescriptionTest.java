@@ -103,6 +103,18 @@ public class ToolkitDescriptionTest extends DesignerTestCase {
 		}
 	}
 
+	/**
+	 * Test for {@link DescriptionHelper#getToolkitIds(String)}.
+	 */
+	@Test
+	public void test_getToolkitIds() throws Exception {
+		Assertions.assertThat(DescriptionHelper.getToolkitIds("javax.swing.JButton")).contains(
+				org.eclipse.wb.internal.swing.preferences.IPreferenceConstants.TOOLKIT_ID);
+		Assertions.assertThat(DescriptionHelper.getToolkitIds("org.eclipse.swt.widgets.Button")).doesNotContain(
+				org.eclipse.wb.internal.swing.preferences.IPreferenceConstants.TOOLKIT_ID);
+		Assertions.assertThat(DescriptionHelper.getToolkitIds("no.such.Class")).isEmpty();
+	}
+
 	/**
 	 * Test for {@link ComponentDescriptionHelper#getToolkits()}.
 	 */
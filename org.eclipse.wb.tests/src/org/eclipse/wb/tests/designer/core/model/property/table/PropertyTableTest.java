@@ -18,9 +18,12 @@ import org.eclipse.wb.internal.core.model.property.editor.IntegerPropertyEditor;
 import org.eclipse.wb.internal.core.model.property.editor.PropertyEditor;
 import org.eclipse.wb.internal.core.model.property.editor.string.StringPropertyEditor;
 import org.eclipse.wb.internal.core.model.property.table.PropertyTable;
+import org.eclipse.wb.internal.core.model.property.table.editparts.NoPropertyEditPart;
+import org.eclipse.wb.internal.core.model.property.table.editparts.PropertyRootEditPart;
 import org.eclipse.wb.tests.utils.PropertyTableUtils;
 
 import org.eclipse.draw2d.Cursors;
+import org.eclipse.gef.GraphicalEditPart;
 import org.eclipse.swt.graphics.Point;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -186,6 +189,60 @@ public class PropertyTableTest extends AbstractPropertyTableTest {
 		waitEventLoop(0);
 	}
 
+	/**
+	 * Edit parts are kept for same {@link Property}'s, when input is set again.
+	 */
+	@Test
+	public void test_setInput_keepEditParts() throws Exception {
+		Property textProperty = PropertyTableUtils.getProperty(m_propertyTable, 0);
+		GraphicalEditPart textEditPart = PropertyTableUtils.getEditPart(m_propertyTable, textProperty);
+		assertNotNull(textEditPart);
+		// same "text 1" Property, so same edit part
+		m_propertyTable.setInput(new Property[]{textProperty, m_boundsProperty});
+		waitEventLoop(0);
+		assertEquals(2, PropertyTableUtils.getPropertiesCount(m_propertyTable));
+		assertSame(textEditPart, PropertyTableUtils.getEditPart(m_propertyTable, textProperty));
+		// new Property with same title, so new edit part
+		TestProperty newTextProperty =
+				new TestProperty("text 1", true, "New button", StringPropertyEditor.INSTANCE);
+		m_propertyTable.setInput(new Property[]{newTextProperty, m_boundsProperty});
+		waitEventLoop(0);
+		assertEquals(2, PropertyTableUtils.getPropertiesCount(m_propertyTable));
+		assertNull(PropertyTableUtils.getEditPart(m_propertyTable, textProperty));
+		assertNotSame(textEditPart, PropertyTableUtils.getEditPart(m_propertyTable, newTextProperty));
+	}
+
+	/**
+	 * Properties are shown, when input is set after <code>null</code> input.
+	 */
+	@Test
+	public void test_setInput_nullThenProperties() throws Exception {
+		m_propertyTable.setInput(null);
+		waitEventLoop(0);
+		assertEquals(0, PropertyTableUtils.getPropertiesCount(m_propertyTable));
+		assertInstanceOf(NoPropertyEditPart.class, m_propertyTable.getContents());
+		// set properties
+		m_propertyTable.setInput(new Property[]{m_boundsProperty});
+		waitEventLoop(0);
+		assertEquals(1, PropertyTableUtils.getPropertiesCount(m_propertyTable));
+		assertInstanceOf(PropertyRootEditPart.class, m_propertyTable.getContents());
+		assertNotNull(PropertyTableUtils.getEditPart(m_propertyTable, m_boundsProperty));
+	}
+
+	/**
+	 * Properties are removed, when empty input is set.
+	 */
+	@Test
+	public void test_setInput_propertiesThenEmpty() throws Exception {
+		assertInstanceOf(PropertyRootEditPart.class, m_propertyTable.getContents());
+		// set no properties
+		m_propertyTable.setInput(new Property[0]);
+		waitEventLoop(0);
+		assertEquals(0, PropertyTableUtils.getPropertiesCount(m_propertyTable));
+		assertInstanceOf(NoPropertyEditPart.class, m_propertyTable.getContents());
+		assertNull(PropertyTableUtils.getEditPart(m_propertyTable, m_boundsProperty));
+	}
+
 	/**
 	 * Set of sub-properties is changed to same complex property.
 	 */
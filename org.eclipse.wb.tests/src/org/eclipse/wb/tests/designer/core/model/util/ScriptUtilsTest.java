@@ -14,13 +14,18 @@ package org.eclipse.wb.tests.designer.core.model.util;
 
 import org.eclipse.wb.internal.core.model.JavaInfoUtils;
 import org.eclipse.wb.internal.core.model.util.ScriptUtils;
+import org.eclipse.wb.internal.core.utils.external.ExternalFactoriesHelper;
+import org.eclipse.wb.internal.core.utils.reflect.ClassLoaderLocalMap;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
 import org.eclipse.wb.internal.swing.model.component.ContainerInfo;
 import org.eclipse.wb.tests.designer.swing.SwingModelTest;
 
+import org.eclipse.core.runtime.IConfigurationElement;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -82,6 +87,57 @@ public class ScriptUtilsTest extends SwingModelTest {
 		Assertions.assertThat(variables).hasSize(2);
 	}
 
+	/**
+	 * Script can assign variable, but {@link Map} of caller is not changed.
+	 */
+	@Test
+	public void test_evaluate_withVariables_assign() throws Exception {
+		Map<String, Object> variables = new HashMap<>();
+		variables.put("a", 2);
+		variables.put("b", 3);
+		assertEquals(30, ScriptUtils.evaluate("a = 10; return a * b;", variables));
+		assertEquals(Map.of("a", 2, "b", 3), variables);
+		// same for ClassLoader
+		ClassLoader classLoader = getClass().getClassLoader();
+		assertEquals(30, ScriptUtils.evaluate(classLoader, "a = 10; return a * b;", variables));
+		assertEquals(Map.of("a", 2, "b", 3), variables);
+	}
+
+	/**
+	 * Compiled expression is cached and used again.
+	 */
+	@Test
+	public void test_evaluate_compiledOnce() throws Exception {
+		String script = "2 + 3 + 4";
+		assertEquals(9, ScriptUtils.evaluate(script));
+		Map<?, ?> cache =
+				(Map<?, ?>) ReflectionUtils.getFieldObject(ScriptUtils.class, "m_compiledExpressions");
+		Object expression = cache.get(script);
+		assertNotNull(expression);
+		assertEquals(9, ScriptUtils.evaluate(script));
+		assertSame(expression, cache.get(script));
+	}
+
+	/**
+	 * MVEL caches are cleared for {@link ClassLoader} of any toolkit.
+	 */
+	@Test
+	public void test_MemoryLeaksManager_allToolkits() throws Exception {
+		List<IConfigurationElement> elements =
+				ExternalFactoriesHelper.getElements(
+						"org.eclipse.wb.core.java.classLoaderInitializers",
+						"initializer");
+		IConfigurationElement memoryLeaksElement = null;
+		for (IConfigurationElement element : elements) {
+			if (ScriptUtils.MemoryLeaksManager.class.getName().equals(element.getAttribute("class"))) {
+				assertNull(memoryLeaksElement);
+				memoryLeaksElement = element;
+			}
+		}
+		assertNotNull(memoryLeaksElement);
+		assertNull(memoryLeaksElement.getAttribute("toolkit"));
+	}
+
 	/**
 	 * Test for {@link ScriptUtils#evaluate(String, String, Object, String, Object)}.
 	 */
@@ -191,6 +247,10 @@ public class ScriptUtilsTest extends SwingModelTest {
 						"a + (com.jgoodies.forms.layout.Sizes.DLUX1).value",
 						Map.of("a", 5.0));
 		assertEquals(6.0, ((Double) actual).doubleValue(), 0.001);
+		// compiled expression is kept for this ClassLoader
+		Map<?, ?> cache = (Map<?, ?>) ClassLoaderLocalMap.get(m_lastLoader, ScriptUtils.class);
+		Assertions.assertThat(cache)
+				.containsKey("a + (com.jgoodies.forms.layout.Sizes.DLUX1).value");
 	}
 
 	/**
@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.util;
+
+import org.eclipse.wb.internal.core.gef.policy.snapping.IntervalIndex;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.eclipse.draw2d.geometry.Rectangle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests for {@link IntervalIndex}.
+ */
+public class IntervalIndexTest extends DesignerTestCase {
+	@Test
+	public void test_empty() throws Exception {
+		IntervalIndex<Rectangle> index = createIndex(List.of());
+		assertTrue(index.find(0, 100).isEmpty());
+	}
+
+	/**
+	 * Items are returned in order of original list, not in order of intervals.
+	 */
+	@Test
+	public void test_find_order() throws Exception {
+		Rectangle a = new Rectangle(0, 50, 10, 10);
+		Rectangle b = new Rectangle(0, 0, 10, 10);
+		Rectangle c = new Rectangle(0, 20, 10, 10);
+		Rectangle d = new Rectangle(0, 100, 10, 10);
+		IntervalIndex<Rectangle> index = createIndex(List.of(a, b, c, d));
+		assertEquals(List.of(a, b, c), index.find(5, 55));
+		assertEquals(List.of(d), index.find(105, 200));
+		assertEquals(List.of(), index.find(35, 45));
+	}
+
+	/**
+	 * Both ends of interval are inclusive.
+	 */
+	@Test
+	public void test_find_bounds() throws Exception {
+		Rectangle a = new Rectangle(0, 10, 10, 10);
+		IntervalIndex<Rectangle> index = createIndex(List.of(a));
+		assertEquals(List.of(a), index.find(0, 10));
+		assertEquals(List.of(a), index.find(20, 30));
+		assertEquals(List.of(a), index.find(12, 14));
+		assertEquals(List.of(a), index.find(0, 100));
+		assertEquals(List.of(), index.find(0, 9));
+		assertEquals(List.of(), index.find(21, 30));
+	}
+
+	/**
+	 * Long interval at the begin of sorted items is found together with short ones after it.
+	 */
+	@Test
+	public void test_find_nested() throws Exception {
+		Rectangle a = new Rectangle(0, 0, 10, 1000);
+		Rectangle b = new Rectangle(0, 10, 10, 10);
+		Rectangle c = new Rectangle(0, 500, 10, 10);
+		Rectangle d = new Rectangle(0, 900, 10, 10);
+		IntervalIndex<Rectangle> index = createIndex(List.of(a, b, c, d));
+		assertEquals(List.of(a, c), index.find(400, 600));
+		assertEquals(List.of(a), index.find(950, 960));
+	}
+
+	/**
+	 * Replays drag over 1000 widgets and compares with scanning of all widgets.
+	 */
+	@Test
+	public void test_find_asScan() throws Exception {
+		Random random = new Random(0);
+		List<Rectangle> widgets = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			widgets.add(new Rectangle(
+					random.nextInt(2000),
+					random.nextInt(2000),
+					random.nextInt(200),
+					random.nextInt(200)));
+		}
+		IntervalIndex<Rectangle> index = createIndex(widgets);
+		for (int y = 0; y < 2200; y += 7) {
+			int begin = y;
+			int end = y + 40;
+			List<Rectangle> expected = new ArrayList<>();
+			for (Rectangle widget : widgets) {
+				if (widget.y <= end && widget.bottom() >= begin) {
+					expected.add(widget);
+				}
+			}
+			assertEquals(expected, index.find(begin, end));
+		}
+	}
+
+	private static IntervalIndex<Rectangle> createIndex(List<Rectangle> items) {
+		return new IntervalIndex<>(items, r -> r.y, r -> r.bottom());
+	}
+}
@@ -17,10 +17,13 @@ import org.eclipse.wb.tests.designer.core.util.base64.Base64UtilsTest;
 import org.eclipse.wb.tests.designer.core.util.check.AssertTest;
 import org.eclipse.wb.tests.designer.core.util.execution.ExecutionUtilsTest;
 import org.eclipse.wb.tests.designer.core.util.execution.NoOpProgressMonitorTest;
+import org.eclipse.wb.tests.designer.core.util.execution.PerformanceTracerTest;
 import org.eclipse.wb.tests.designer.core.util.jdt.core.JdtCoreTests;
 import org.eclipse.wb.tests.designer.core.util.refactoring.RefactoringTests;
+import org.eclipse.wb.tests.designer.core.util.reflect.ClassLoaderLocalMapTest;
 import org.eclipse.wb.tests.designer.core.util.reflect.IntrospectionHelperTest;
 import org.eclipse.wb.tests.designer.core.util.reflect.ReflectionUtilsTest;
+import org.eclipse.wb.tests.designer.core.util.ui.ImageThumbnailLoaderTest;
 import org.eclipse.wb.tests.designer.core.util.ui.ImageUtilsTest;
 import org.eclipse.wb.tests.designer.core.util.ui.MenuIntersectorTest;
 import org.eclipse.wb.tests.designer.core.util.xml.XmlTests;
@@ -42,15 +45,19 @@ import org.junit.platform.suite.api.Suite;
 		CoreExceptionRewriterTest.class,
 		GenericsUtilsTest.class,
 		PairTest.class,
+		IntervalIndexTest.class,
 		ExecutionUtilsTest.class,
 		NoOpProgressMonitorTest.class,
+		PerformanceTracerTest.class,
 		XmlTests.class,
 		ExternalFactoriesHelperTest.class,
 		EditorWarningTest.class,
 		ReflectionUtilsTest.class,
 		IntrospectionHelperTest.class,
+		ClassLoaderLocalMapTest.class,
 		MenuIntersectorTest.class,
 		ImageUtilsTest.class,
+		ImageThumbnailLoaderTest.class,
 		AstTests.class,
 		JdtCoreTests.class,
 		RefactoringTests.class
@@ -1376,6 +1376,31 @@ public class AstEditorTest extends AbstractJavaTest {
 		}
 	}
 
+	/**
+	 * Test for {@link AstEditor#indexOf(String, int)}.
+	 */
+	@Test
+	public void test_indexOf_startPosition() throws Exception {
+		createTypeDeclaration_Test("""
+				public class Test {
+					public Test() {
+						int a;
+						int a2;
+					}
+				}""");
+		String source = m_lastEditor.getSource();
+		int first = source.indexOf("int a");
+		int second = source.indexOf("int a", first + 1);
+		assertEquals(first, m_lastEditor.indexOf("int a", first));
+		assertEquals(second, m_lastEditor.indexOf("int a", first + 1));
+		assertEquals(second, m_lastEditor.indexOf("int a2", -1));
+		try {
+			m_lastEditor.indexOf("int a", second + 1);
+			fail();
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// getCharAt()
@@ -2960,6 +2985,57 @@ public class AstEditorTest extends AbstractJavaTest {
 		}
 	}
 
+	/**
+	 * Names of variables are remembered, but should be updated after modification of AST.
+	 */
+	@Test
+	public void test_getUniqueVariableName_afterEdit() throws Exception {
+		TypeDeclaration typeDeclaration =
+				createTypeDeclaration_TestC(getSourceDQ(
+						"int m_value;",
+						"void foo() {",
+						"}"));
+		VariableDeclarationFragment fragment =
+				(VariableDeclarationFragment) typeDeclaration.getFields()[0].fragments().get(0);
+		assertEquals("m_value_1", m_lastEditor.getUniqueVariableName(-1, "m_value", null));
+		// add field, so "m_value_1" is not unique anymore
+		m_lastEditor.addFieldDeclaration(
+				"int m_value_1;",
+				new BodyDeclarationTarget(typeDeclaration, false));
+		assertEquals("m_value_2", m_lastEditor.getUniqueVariableName(-1, "m_value", null));
+		// rename "m_value", so it can be used again
+		m_lastEditor.setIdentifier(fragment.getName(), "m_other");
+		assertEquals("m_value", m_lastEditor.getUniqueVariableName(-1, "m_value", null));
+	}
+
+	@Test
+	public void test_getUniqueVariableName_afterRemove() throws Exception {
+		TypeDeclaration typeDeclaration =
+				createTypeDeclaration_TestC(getSourceDQ(
+						"int m_value;",
+						"void foo() {",
+						"  int m_value_1;",
+						"  int m_value_2;",
+						"}"));
+		FieldDeclaration fieldDeclaration = typeDeclaration.getFields()[0];
+		MethodDeclaration methodDeclaration = typeDeclaration.getMethods()[0];
+		assertEquals("m_value_3", m_lastEditor.getUniqueVariableName(-1, "m_value", null));
+		// remove statement, so "m_value_1" can be used again
+		Statement statement = DomGenerics.statements(methodDeclaration.getBody()).get(0);
+		m_lastEditor.removeStatement(statement);
+		assertEquals("m_value_1", m_lastEditor.getUniqueVariableName(-1, "m_value", null));
+		// remove field, so "m_value" can be used again
+		m_lastEditor.removeBodyDeclaration(fieldDeclaration);
+		assertEquals("m_value", m_lastEditor.getUniqueVariableName(-1, "m_value", null));
+		// modify AST directly, names should be collected again
+		VariableDeclarationStatement variableStatement =
+				(VariableDeclarationStatement) DomGenerics.statements(methodDeclaration.getBody()).get(0);
+		VariableDeclarationFragment fragment =
+				(VariableDeclarationFragment) variableStatement.fragments().get(0);
+		fragment.getName().setIdentifier("m_value");
+		assertEquals("m_value_1", m_lastEditor.getUniqueVariableName(-1, "m_value", null));
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// getUniqueMethodName
@@ -2987,6 +3063,21 @@ public class AstEditorTest extends AbstractJavaTest {
 		assertEquals("hashCode_1", m_lastEditor.getUniqueMethodName("hashCode"));
 	}
 
+	/**
+	 * Names of methods are remembered, but should be updated after modification of AST.
+	 */
+	@Test
+	public void test_getUniqueMethodName_afterEdit() throws Exception {
+		TypeDeclaration typeDeclaration = createTypeDeclaration_TestC("void foo() {}");
+		assertEquals("foo_1", m_lastEditor.getUniqueMethodName("foo"));
+		// add method, so "foo_1" is not unique anymore
+		m_lastEditor.addMethodDeclaration(
+				"void foo_1()",
+				List.of(),
+				new BodyDeclarationTarget(typeDeclaration, false));
+		assertEquals("foo_2", m_lastEditor.getUniqueMethodName("foo"));
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// getUniqueTypeName
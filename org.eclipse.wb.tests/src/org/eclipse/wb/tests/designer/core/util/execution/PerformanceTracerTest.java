@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.util.execution;
+
+import org.eclipse.wb.internal.core.utils.execution.PerformanceTracer;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Test for {@link PerformanceTracer}.
+ */
+public class PerformanceTracerTest extends DesignerTestCase {
+	/**
+	 * Phase is committed as JFR event, when recording is active.
+	 */
+	@Test
+	public void test_recording() throws Exception {
+		Path file = Files.createTempFile("wbp", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.eclipse.wb.DesignPhase");
+			recording.start();
+			try (PerformanceTracer tracer = PerformanceTracer.start(PerformanceTracer.PARSE, "Test.java")) {
+				Thread.sleep(10);
+			}
+			recording.stop();
+			recording.dump(file);
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			assertEquals(1, events.size());
+			RecordedEvent event = events.get(0);
+			assertEquals(PerformanceTracer.PARSE, event.getString("phase"));
+			assertEquals("Test.java", event.getString("subject"));
+			assertTrue(event.getDuration().toNanos() > 0);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/**
+	 * Phase of single component is committed only if it takes at least 1 ms.
+	 */
+	@Test
+	public void test_recording_component() throws Exception {
+		Path file = Files.createTempFile("wbp", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("org.eclipse.wb.ComponentPhase");
+			recording.start();
+			try (PerformanceTracer tracer =
+					PerformanceTracer.startComponent(PerformanceTracer.CONSTRUCTOR, "test.Fast")) {
+				// nothing
+			}
+			try (PerformanceTracer tracer =
+					PerformanceTracer.startComponent(PerformanceTracer.CONSTRUCTOR, "test.Slow")) {
+				Thread.sleep(10);
+			}
+			recording.stop();
+			recording.dump(file);
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			assertEquals(1, events.size());
+			RecordedEvent event = events.get(0);
+			assertEquals(PerformanceTracer.CONSTRUCTOR, event.getString("phase"));
+			assertEquals("test.Slow", event.getString("subject"));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	/**
+	 * Phase can be measured without active recording.
+	 */
+	@Test
+	public void test_noRecording() throws Exception {
+		try (PerformanceTracer tracer = PerformanceTracer.start(PerformanceTracer.REFRESH_CREATE, null)) {
+			// nothing
+		}
+	}
+}
@@ -23,7 +23,8 @@ import org.junit.platform.suite.api.Suite;
 		CodeUtilsTest.class,
 		JavaDocUtilsTest.class,
 		SubtypesScopeTest.class,
-		ProjectUtilsTest.class
+		ProjectUtilsTest.class,
+		TypeDependencyGraphTest.class
 })
 public class JdtCoreTests {
 }
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.util.jdt.core;
+
+import org.eclipse.wb.internal.core.utils.jdt.core.TypeDependencyGraph;
+import org.eclipse.wb.tests.designer.core.AbstractJavaTest;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.jdt.core.ICompilationUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+/**
+ * Tests for {@link TypeDependencyGraph}.
+ */
+public class TypeDependencyGraphTest extends AbstractJavaTest {
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Life cycle
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	@BeforeEach
+	public void setUp() throws Exception {
+		super.setUp();
+		if (m_testProject == null) {
+			do_projectCreate();
+		}
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Referenced types
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * References of not changed unit are parsed only once.
+	 */
+	@Test
+	public void test_getReferencedTypes() throws Exception {
+		setFileContentSrc("test/B.java", getSourceDQ("package test;", "public class B {", "}"));
+		ICompilationUnit aUnit =
+				createModelCompilationUnit(
+						"test",
+						"A.java",
+						getSourceDQ("package test;", "public class A {", "  B m_b;", "}"));
+		Set<String> types = TypeDependencyGraph.getReferencedTypes(aUnit);
+		assertTrue(types.contains("test.B"));
+		assertSame(types, TypeDependencyGraph.getReferencedTypes(aUnit));
+	}
+
+	/**
+	 * Change of referenced type drops references of unit.
+	 */
+	@Test
+	public void test_getReferencedTypes_referencedTypeChanged() throws Exception {
+		setFileContentSrc("test/B.java", getSourceDQ("package test;", "public class B {", "}"));
+		ICompilationUnit aUnit =
+				createModelCompilationUnit(
+						"test",
+						"A.java",
+						getSourceDQ("package test;", "public class A {", "  B m_b;", "}"));
+		setFileContentSrc("test/C.java", getSourceDQ("package test;", "public class C {", "}"));
+		Set<String> types = TypeDependencyGraph.getReferencedTypes(aUnit);
+		// not referenced type changed, references are kept
+		setFileContentSrc(
+				"test/C.java",
+				getSourceDQ("package test;", "public class C {", "  int m_value;", "}"));
+		assertSame(types, TypeDependencyGraph.getReferencedTypes(aUnit));
+		// referenced type changed, references are dropped
+		setFileContentSrc(
+				"test/B.java",
+				getSourceDQ("package test;", "public class B {", "  int m_value;", "}"));
+		Set<String> newTypes = TypeDependencyGraph.getReferencedTypes(aUnit);
+		assertNotSame(types, newTypes);
+		assertEquals(types, newTypes);
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Tokens hash
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Test for {@link TypeDependencyGraph#getTokensHash(IFile)}.
+	 */
+	@Test
+	public void test_getTokensHash() throws Exception {
+		IFile file =
+				setFileContentSrc(
+						"test/A.java",
+						getSourceDQ("package test;", "public class A {", "  int m_value;", "}"));
+		int hash = TypeDependencyGraph.getTokensHash(file);
+		// formatting and comments
+		setFileContentSrc(
+				"test/A.java",
+				getSourceDQ(
+						"package test;",
+						"// comment",
+						"public class A {",
+						"  /** field */",
+						"  int    m_value;",
+						"}"));
+		assertEquals(hash, TypeDependencyGraph.getTokensHash(file));
+		// different name
+		setFileContentSrc(
+				"test/A.java",
+				getSourceDQ("package test;", "public class A {", "  int m_value2;", "}"));
+		assertNotEquals(hash, TypeDependencyGraph.getTokensHash(file));
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.util.reflect;
+
+import org.eclipse.wb.internal.core.utils.reflect.ClassLoaderLocalMap;
+import org.eclipse.wb.internal.core.utils.reflect.ClassLoaderLocalMap.ClassLoaderLocalMapManager;
+import org.eclipse.wb.internal.core.utils.reflect.CompositeClassLoader;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+/**
+ * Test for {@link ClassLoaderLocalMap}.
+ */
+public class ClassLoaderLocalMapTest extends DesignerTestCase {
+	private final ClassLoaderLocalMapManager m_manager = new ClassLoaderLocalMapManager();
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Tests
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Test
+	public void test_putGet() throws Exception {
+		ClassLoader classLoader = createClassLoader();
+		assertFalse(ClassLoaderLocalMap.containsKey(classLoader, "key"));
+		ClassLoaderLocalMap.put(classLoader, "key", "value");
+		assertTrue(ClassLoaderLocalMap.containsKey(classLoader, "key"));
+		assertEquals("value", ClassLoaderLocalMap.get(classLoader, "key"));
+		// not visible for other ClassLoader
+		assertNull(ClassLoaderLocalMap.get(createClassLoader(), "key"));
+		// "null" value removes key
+		ClassLoaderLocalMap.put(classLoader, "key", null);
+		assertFalse(ClassLoaderLocalMap.containsKey(classLoader, "key"));
+	}
+
+	@Test
+	public void test_computeIfAbsent() throws Exception {
+		ClassLoader classLoader = createClassLoader();
+		assertEquals("value", ClassLoaderLocalMap.computeIfAbsent(classLoader, "key", () -> "value"));
+		assertEquals("value", ClassLoaderLocalMap.computeIfAbsent(classLoader, "key", () -> "other"));
+	}
+
+	/**
+	 * Deinitializing editor {@link ClassLoader} should keep segments of other editor.
+	 */
+	@Test
+	public void test_deinitialize_otherEditor() throws Exception {
+		ClassLoader projectLoader_1 = createClassLoader();
+		ClassLoader projectLoader_2 = createClassLoader();
+		ClassLoader editorLoader_1 = createEditorLoader(projectLoader_1);
+		ClassLoader editorLoader_2 = createEditorLoader(projectLoader_2);
+		m_manager.initialize(editorLoader_1);
+		m_manager.initialize(editorLoader_2);
+		try {
+			ClassLoaderLocalMap.put(editorLoader_1, "key", "editor_1");
+			ClassLoaderLocalMap.put(projectLoader_1, "key", "project_1");
+			ClassLoaderLocalMap.put(editorLoader_2, "key", "editor_2");
+			ClassLoaderLocalMap.put(projectLoader_2, "key", "project_2");
+			ClassLoaderLocalMap.put(null, "key", "bootstrap");
+			// dispose first editor
+			m_manager.deinitialize(editorLoader_1);
+			assertNull(ClassLoaderLocalMap.get(editorLoader_1, "key"));
+			assertNull(ClassLoaderLocalMap.get(projectLoader_1, "key"));
+			assertEquals("editor_2", ClassLoaderLocalMap.get(editorLoader_2, "key"));
+			assertEquals("project_2", ClassLoaderLocalMap.get(projectLoader_2, "key"));
+			assertEquals("bootstrap", ClassLoaderLocalMap.get(null, "key"));
+		} finally {
+			m_manager.deinitialize(editorLoader_2);
+			ClassLoaderLocalMap.put(null, "key", null);
+		}
+	}
+
+	/**
+	 * Temporary {@link ClassLoader}'s are never deinitialized, so their segments are removed when any
+	 * editor {@link ClassLoader} is deinitialized.
+	 */
+	@Test
+	public void test_deinitialize_temporaryLoader() throws Exception {
+		ClassLoader temporaryLoader = createClassLoader();
+		ClassLoader editorLoader = createEditorLoader(createClassLoader());
+		m_manager.initialize(editorLoader);
+		ClassLoaderLocalMap.put(temporaryLoader, "key", "value");
+		m_manager.deinitialize(editorLoader);
+		assertNull(ClassLoaderLocalMap.get(temporaryLoader, "key"));
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	private static ClassLoader createClassLoader() {
+		return new URLClassLoader(new URL[0], ClassLoaderLocalMapTest.class.getClassLoader());
+	}
+
+	private static ClassLoader createEditorLoader(ClassLoader projectLoader) {
+		CompositeClassLoader editorLoader = new CompositeClassLoader();
+		editorLoader.add(projectLoader, null);
+		return editorLoader;
+	}
+}
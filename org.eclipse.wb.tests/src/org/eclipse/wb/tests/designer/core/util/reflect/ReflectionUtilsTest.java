@@ -43,6 +43,9 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.Vector;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.swing.JButton;
 import javax.swing.JComponent;
@@ -1338,6 +1341,63 @@ public class ReflectionUtilsTest extends DesignerTestCase {
 		assertNull(ReflectionUtils.getFieldByName(Collections.class, "EMPTY_LIST_NO"));
 	}
 
+	/**
+	 * Result of {@link ReflectionUtils#getFieldByName(Class, String)} is cached, including absence
+	 * of field.
+	 */
+	@Test
+	public void test_getFieldByName_cached() throws Exception {
+		Field field = ReflectionUtils.getFieldByName(ArrayList.class, "modCount");
+		assertSame(field, ReflectionUtils.getFieldByName(ArrayList.class, "modCount"));
+		assertNull(ReflectionUtils.getFieldByName(ArrayList.class, "noSuchField"));
+		assertNull(ReflectionUtils.getFieldByName(ArrayList.class, "noSuchField"));
+	}
+
+	/**
+	 * Field declared in class hides field of superclass with same name.
+	 */
+	@Test
+	public void test_getFieldByName_hidden() throws Exception {
+		class Super {
+			protected int a;
+			protected int b;
+		}
+		class Sub extends Super {
+			protected int a;
+		}
+		assertSame(Sub.class, ReflectionUtils.getFieldByName(Sub.class, "a").getDeclaringClass());
+		assertSame(Super.class, ReflectionUtils.getFieldByName(Sub.class, "b").getDeclaringClass());
+	}
+
+	/**
+	 * {@link ReflectionUtils#getFieldByName(Class, String)} is used from UI thread and from
+	 * background jobs at same time.
+	 */
+	@Test
+	public void test_getFieldByName_concurrent() throws Exception {
+		class Foo {
+			protected int a;
+			protected int b;
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<List<Field>>> futures = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				futures.add(executor.submit(() -> Arrays.asList(
+						ReflectionUtils.getFieldByName(Foo.class, "a"),
+						ReflectionUtils.getFieldByName(Foo.class, "b"),
+						ReflectionUtils.getFieldByName(Foo.class, "c"))));
+			}
+			for (Future<List<Field>> future : futures) {
+				assertEquals(
+						Arrays.asList(Foo.class.getDeclaredField("a"), Foo.class.getDeclaredField("b"), null),
+						future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// getFieldObject
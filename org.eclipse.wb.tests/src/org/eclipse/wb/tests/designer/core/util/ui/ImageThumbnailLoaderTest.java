@@ -0,0 +1,204 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.core.util.ui;
+
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.ImageInfo;
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.ImageThumbnailLoader;
+import org.eclipse.wb.internal.core.utils.ui.dialogs.image.pages.browse.model.IImageResource;
+import org.eclipse.wb.tests.designer.TestUtils;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.swt.graphics.Image;
+import org.eclipse.swt.graphics.Rectangle;
+import org.eclipse.swt.widgets.Shell;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Test for {@link ImageThumbnailLoader}.
+ */
+public class ImageThumbnailLoaderTest extends DesignerTestCase {
+	private Shell m_shell;
+	private ImageThumbnailLoader m_loader;
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Life cycle
+	//
+	////////////////////////////////////////////////////////////////////////////
+	@Override
+	@BeforeEach
+	public void setUp() throws Exception {
+		super.setUp();
+		m_shell = new Shell();
+		m_loader = new ImageThumbnailLoader(new TreeViewer(m_shell));
+	}
+
+	@Override
+	@AfterEach
+	public void tearDown() throws Exception {
+		m_loader.dispose();
+		m_shell.dispose();
+		super.tearDown();
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Tests
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Big image is scaled down, with same aspect ratio.
+	 */
+	@Test
+	public void test_scaledDown() throws Exception {
+		IImageResource resource = new TestImageResource(TestUtils.createImagePNG(64, 32));
+		assertNull(m_loader.getThumbnail(resource));
+		Rectangle bounds = waitThumbnail(resource).getBounds();
+		assertEquals(16, bounds.width);
+		assertEquals(8, bounds.height);
+	}
+
+	/**
+	 * Small image is used as is.
+	 */
+	@Test
+	public void test_small() throws Exception {
+		IImageResource resource = new TestImageResource(TestUtils.createImagePNG(10, 12));
+		Rectangle bounds = waitThumbnail(resource).getBounds();
+		assertEquals(10, bounds.width);
+		assertEquals(12, bounds.height);
+	}
+
+	/**
+	 * If contents is not available, or can not be decoded, image of resource is used.
+	 */
+	@Test
+	public void test_notDecoded() throws Exception {
+		Image image = new Image(null, 16, 16);
+		try {
+			IImageResource noContents = new TestImageResource(null) {
+				@Override
+				public Image getImage() {
+					return image;
+				}
+			};
+			IImageResource badContents = new TestImageResource(new byte[]{1, 2, 3}) {
+				@Override
+				public Image getImage() {
+					return image;
+				}
+			};
+			assertSame(image, waitThumbnail(noContents));
+			assertSame(image, waitThumbnail(badContents));
+		} finally {
+			image.dispose();
+		}
+	}
+
+	/**
+	 * Thumbnails are disposed with loader, and not loaded anymore.
+	 */
+	@Test
+	public void test_dispose() throws Exception {
+		IImageResource resource = new TestImageResource(TestUtils.createImagePNG(64, 32));
+		Image thumbnail = waitThumbnail(resource);
+		m_loader.dispose();
+		assertTrue(thumbnail.isDisposed());
+		assertNull(m_loader.getThumbnail(resource));
+		assertNull(m_loader.getThumbnail(new TestImageResource(TestUtils.createImagePNG(8, 8))));
+	}
+
+	/**
+	 * {@link ImageThumbnailLoader#dispose()} waits for resource which is being decoded, so caller
+	 * can dispose resources used by it.
+	 */
+	@Test
+	public void test_dispose_whenLoading() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		AtomicBoolean finished = new AtomicBoolean();
+		IImageResource resource = new TestImageResource(TestUtils.createImagePNG(64, 32)) {
+			@Override
+			public InputStream getContents() throws Exception {
+				started.countDown();
+				Thread.sleep(200);
+				finished.set(true);
+				return super.getContents();
+			}
+		};
+		assertNull(m_loader.getThumbnail(resource));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		m_loader.dispose();
+		assertTrue(finished.get());
+		waitEventLoop(10);
+		assertNull(m_loader.getThumbnail(resource));
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * @return the thumbnail of given {@link IImageResource}, waits until it is loaded.
+	 */
+	private Image waitThumbnail(IImageResource resource) {
+		long end = System.currentTimeMillis() + 5000;
+		while (System.currentTimeMillis() < end) {
+			Image thumbnail = m_loader.getThumbnail(resource);
+			if (thumbnail != null) {
+				return thumbnail;
+			}
+			waitEventLoop(10);
+		}
+		fail("Thumbnail was not loaded.");
+		return null;
+	}
+
+	/**
+	 * {@link IImageResource} with given contents.
+	 */
+	private static class TestImageResource implements IImageResource {
+		private final byte[] m_contents;
+
+		public TestImageResource(byte[] contents) {
+			m_contents = contents;
+		}
+
+		@Override
+		public Image getImage() {
+			return null;
+		}
+
+		@Override
+		public String getName() {
+			return "image.png";
+		}
+
+		@Override
+		public ImageInfo getImageInfo() {
+			return null;
+		}
+
+		@Override
+		public InputStream getContents() throws Exception {
+			return m_contents != null ? new ByteArrayInputStream(m_contents) : null;
+		}
+	}
+}
@@ -31,6 +31,7 @@ import org.junit.platform.suite.api.Suite;
 		ReparseOnModificationTest.class,
 		SelectSupportTest.class,
 		ComponentsPropertiesPageTest.class,
+		PropertyListIntersectorTest.class,
 		JavaPropertiesToolBarContributorTest.class,
 		ComponentsTreePageTest.class,
 		SplitModeTest.class,
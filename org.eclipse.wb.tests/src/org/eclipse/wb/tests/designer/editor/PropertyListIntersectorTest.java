@@ -0,0 +1,154 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * https://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.wb.tests.designer.editor;
+
+import org.eclipse.wb.internal.core.editor.structure.property.PropertyListIntersector;
+import org.eclipse.wb.internal.core.model.property.Property;
+import org.eclipse.wb.internal.core.model.property.category.PropertyCategory;
+import org.eclipse.wb.tests.designer.tests.DesignerTestCase;
+import org.eclipse.wb.tests.designer.tests.common.PropertyWithTitle;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for {@link PropertyListIntersector}.
+ */
+public class PropertyListIntersectorTest extends DesignerTestCase {
+	@Test
+	public void test_sameProperties() throws Exception {
+		assertIntersection(
+				new Property[][]{
+					{new TestProperty("a", "1"), new TestProperty("b", "1")},
+					{new TestProperty("b", "2"), new TestProperty("a", "2")},
+					{new TestProperty("a", "3"), new TestProperty("b", "3")}},
+				"a[1, 2, 3]",
+				"b[1, 2, 3]");
+	}
+
+	@Test
+	public void test_missingTitle() throws Exception {
+		assertIntersection(
+				new Property[][]{
+					{new TestProperty("a", "1"), new TestProperty("b", "1")},
+					{new TestProperty("a", "2")}},
+				"a[1, 2]");
+	}
+
+	/**
+	 * {@link Property}'s with same title, but different class, don't match.
+	 */
+	@Test
+	public void test_sameTitle_differentClass() throws Exception {
+		assertIntersection(
+				new Property[][]{
+					{new TestProperty("a", "1"), new TestProperty("b", "1")},
+					{new TestProperty2("a", "2"), new TestProperty("b", "2")}},
+				"b[1, 2]");
+	}
+
+	/**
+	 * {@link Property}'s with same title and class, but different category, don't match.
+	 */
+	@Test
+	public void test_sameTitle_differentCategory() throws Exception {
+		assertIntersection(
+				new Property[][]{
+					{new TestProperty("a", "1"), new TestProperty("b", "1")},
+					{
+						new TestProperty("a", "2", PropertyCategory.ADVANCED),
+						new TestProperty("b", "2")}},
+				"b[1, 2]");
+	}
+
+	/**
+	 * If there are several {@link Property}'s with same title and class, first one with same
+	 * category is used.
+	 */
+	@Test
+	public void test_duplicateTitles() throws Exception {
+		assertIntersection(
+				new Property[][]{
+					{new TestProperty("a", "1", PropertyCategory.ADVANCED)},
+					{
+						new TestProperty("a", "2"),
+						new TestProperty("a", "3", PropertyCategory.ADVANCED),
+						new TestProperty("a", "4", PropertyCategory.ADVANCED)}},
+				"a[1, 3]");
+	}
+
+	/**
+	 * Each duplicate {@link Property} of first array makes its own group, and these groups match same
+	 * {@link Property} of next array.
+	 */
+	@Test
+	public void test_duplicateTitles_inFirst() throws Exception {
+		assertIntersection(
+				new Property[][]{
+					{new TestProperty("a", "1"), new TestProperty("a", "2")},
+					{new TestProperty("a", "3"), new TestProperty("a", "4")}},
+				"a[1, 3]",
+				"a[2, 3]");
+	}
+
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Utils
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Intersects given arrays and checks titles of composite {@link Property}'s.
+	 */
+	private static void assertIntersection(Property[][] arrays, String... expected) {
+		PropertyListIntersector intersector = new PropertyListIntersector();
+		for (Property[] properties : arrays) {
+			intersector.intersect(properties);
+		}
+		List<String> titles = new ArrayList<>();
+		for (Property property : intersector.getProperties()) {
+			titles.add(property.getTitle());
+		}
+		assertEquals(List.of(expected), titles);
+	}
+
+	/**
+	 * {@link Property} which composite has title with ids of its {@link Property}'s.
+	 */
+	private static class TestProperty extends PropertyWithTitle {
+		private final String m_id;
+
+		public TestProperty(String title, String id) {
+			this(title, id, PropertyCategory.NORMAL);
+		}
+
+		public TestProperty(String title, String id, PropertyCategory category) {
+			super(title);
+			m_id = id;
+			setCategory(category);
+		}
+
+		@Override
+		public Property getComposite(Property[] properties) {
+			List<String> ids = new ArrayList<>();
+			for (Property property : properties) {
+				ids.add(((TestProperty) property).m_id);
+			}
+			return new PropertyWithTitle(getTitle() + ids);
+		}
+	}
+
+	private static class TestProperty2 extends TestProperty {
+		public TestProperty2(String title, String id) {
+			super(title, id);
+		}
+	}
+}
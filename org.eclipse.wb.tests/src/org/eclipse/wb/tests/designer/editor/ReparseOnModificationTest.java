@@ -19,6 +19,7 @@ import org.eclipse.wb.internal.core.model.JavaInfoUtils;
 import org.eclipse.wb.internal.swing.model.component.ContainerInfo;
 import org.eclipse.wb.tests.designer.swing.SwingGefTest;
 
+import org.eclipse.jdt.core.IBuffer;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.ui.IEditorPart;
@@ -77,7 +78,7 @@ public class ReparseOnModificationTest extends SwingGefTest {
 		// open MyComponent
 		IEditorPart componentEditor = JavaUI.openInEditor(componentUnit);
 		// modify MyComponent
-		componentUnit.getBuffer().replace(0, 0, "// comment\n");
+		addField(componentUnit);
 		componentEditor.doSave(null);
 		// switch to Test, reparse should happen
 		{
@@ -124,7 +125,7 @@ public class ReparseOnModificationTest extends SwingGefTest {
 		// open MyComponent
 		IEditorPart componentEditor = JavaUI.openInEditor(componentUnit);
 		// modify MyComponent
-		componentUnit.getBuffer().replace(0, 0, "// comment\n");
+		addField(componentUnit);
 		componentEditor.doSave(null);
 		// switch to Test, not reparse expected
 		{
@@ -169,7 +170,39 @@ public class ReparseOnModificationTest extends SwingGefTest {
 		// no modifications yet
 		assertFalse(shouldReparse_editorActivated(panel));
 		// modify and check
-		myComponentUnit.getBuffer().replace(0, 0, "// comment\n");
+		addField(myComponentUnit);
+		myComponentUnit.save(null, true);
+		assertTrue(shouldReparse_editorActivated(panel));
+	}
+
+	/**
+	 * Changes of formatting and comments in used component don't change its type, so no reparse.
+	 */
+	@Test
+	public void test_modifyComponent_onlyComment() throws Exception {
+		ICompilationUnit myComponentUnit =
+				createModelCompilationUnit(
+						"test",
+						"MyComponent.java",
+						getTestSource("""
+								public class MyComponent extends JPanel {
+									public MyComponent() {
+									}
+								}"""));
+		waitForAutoBuild();
+		//
+		ContainerInfo panel = openContainer("""
+				public class Test extends JPanel {
+					public Test() {
+						add(new MyComponent());
+					}
+				}""");
+		// add comment, no reparse
+		myComponentUnit.getBuffer().replace(0, 0, "// comment\n\n");
+		myComponentUnit.save(null, true);
+		assertFalse(shouldReparse_editorActivated(panel));
+		// add field, reparse
+		addField(myComponentUnit);
 		myComponentUnit.save(null, true);
 		assertTrue(shouldReparse_editorActivated(panel));
 	}
@@ -207,7 +240,7 @@ public class ReparseOnModificationTest extends SwingGefTest {
 		// no modifications yet
 		assertFalse(shouldReparse_editorActivated(panel));
 		// modify and check
-		myComponentInnerUnit.getBuffer().replace(0, 0, "// comment\n");
+		addField(myComponentInnerUnit);
 		myComponentInnerUnit.save(null, true);
 		assertTrue(shouldReparse_editorActivated(panel));
 	}
@@ -233,6 +266,15 @@ public class ReparseOnModificationTest extends SwingGefTest {
 		}
 	}
 
+	/**
+	 * Adds field into first type of given {@link ICompilationUnit}, so changes its tokens.
+	 */
+	private static void addField(ICompilationUnit unit) throws Exception {
+		IBuffer buffer = unit.getBuffer();
+		int index = buffer.getContents().indexOf('{') + 1;
+		buffer.replace(index, 0, "\n\tint m_value;");
+	}
+
 	/**
 	 * @return <code>true</code> if {@link EditorActivatedListener#invoke(boolean[])} requested
 	 *         reparsing.
@@ -142,6 +142,84 @@ public class ComponentTest extends SwingModelTest {
 		}
 	}
 
+	/**
+	 * Images of children are parts of the root image, but only when they are not covered by other
+	 * components.
+	 */
+	@Test
+	public void test_childImages() throws Exception {
+		ContainerInfo panel = parseContainer("""
+				public class Test extends JPanel {
+					public Test() {
+						setLayout(null);
+						{
+							JPanel top = new JPanel();
+							top.setBackground(Color.RED);
+							top.setBounds(10, 10, 50, 30);
+							add(top);
+						}
+						{
+							JPanel bottom = new JPanel();
+							bottom.setBackground(Color.BLUE);
+							bottom.setBounds(40, 20, 50, 30);
+							add(bottom);
+						}
+					}
+				}""");
+		panel.refresh();
+		// "top" is fully visible
+		{
+			ComponentInfo top = getJavaInfoByName("top");
+			ImageData imageData = top.getImage().getImageData();
+			assertEquals(50, imageData.width);
+			assertEquals(30, imageData.height);
+			assertEquals(new RGB(255, 0, 0), imageData.palette.getRGB(imageData.getPixel(1, 1)));
+			assertEquals(new RGB(255, 0, 0), imageData.palette.getRGB(imageData.getPixel(48, 28)));
+		}
+		// "bottom" is covered by "top", but its image is complete
+		{
+			ComponentInfo bottom = getJavaInfoByName("bottom");
+			ImageData imageData = bottom.getImage().getImageData();
+			assertEquals(50, imageData.width);
+			assertEquals(30, imageData.height);
+			assertEquals(new RGB(0, 0, 255), imageData.palette.getRGB(imageData.getPixel(1, 1)));
+			assertEquals(new RGB(0, 0, 255), imageData.palette.getRGB(imageData.getPixel(48, 28)));
+		}
+	}
+
+	/**
+	 * Image of not opaque child is not part of the root image, because there it shows components
+	 * below it.
+	 */
+	@Test
+	public void test_childImages_notOpaque() throws Exception {
+		ContainerInfo panel = parseContainer("""
+				public class Test extends JPanel {
+					public Test() {
+						setLayout(null);
+						setBackground(Color.GREEN);
+						{
+							JPanel transparent = new JPanel();
+							transparent.setOpaque(false);
+							transparent.setBounds(10, 10, 50, 30);
+							add(transparent);
+						}
+						{
+							JPanel below = new JPanel();
+							below.setBackground(Color.RED);
+							below.setBounds(10, 10, 50, 30);
+							add(below);
+						}
+					}
+				}""");
+		panel.refresh();
+		ComponentInfo transparent = getJavaInfoByName("transparent");
+		ImageData imageData = transparent.getImage().getImageData();
+		assertEquals(50, imageData.width);
+		assertEquals(30, imageData.height);
+		assertEquals(new RGB(0, 255, 0), imageData.palette.getRGB(imageData.getPixel(1, 1)));
+	}
+
 	/**
 	 * There was problem with SWT thread and time when exposed {@link ComponentInfo} is created.
 	 */
@@ -16,6 +16,8 @@ import org.eclipse.wb.internal.swing.model.component.ComponentInfo;
 import org.eclipse.wb.internal.swing.model.component.ContainerInfo;
 import org.eclipse.wb.tests.designer.swing.SwingGefTest;
 
+import org.eclipse.draw2d.PositionConstants;
+
 import org.junit.jupiter.api.Test;
 
 import javax.swing.GroupLayout;
@@ -94,4 +96,137 @@ public class GroupLayoutGefTest extends SwingGefTest {
 					}
 				}""");
 	}
+
+	/**
+	 * Existing layout code is updated in place, so names in it keep their qualification.
+	 */
+	@Test
+	public void test_move_updateInPlace() throws Exception {
+		prepareBox(60, 30);
+		ContainerInfo panel = openContainer("""
+				import javax.swing.GroupLayout.Alignment;
+				public class Test extends JPanel {
+					public Test() {
+						setLayout(null);
+						JPanel panel = new JPanel();
+						panel.setBounds(50, 50, 200, 200);
+						add(panel);
+						Box box_1 = new Box();
+						GroupLayout groupLayout_1_1 = new GroupLayout(panel);
+						groupLayout_1_1.setHorizontalGroup(
+							groupLayout_1_1.createParallelGroup(Alignment.LEADING)
+								.addGroup(groupLayout_1_1.createSequentialGroup()
+									.addGap(40)
+									.addComponent(box_1, GroupLayout.PREFERRED_SIZE, 60, GroupLayout.PREFERRED_SIZE)
+									.addContainerGap(100, Short.MAX_VALUE))
+						);
+						groupLayout_1_1.setVerticalGroup(
+							groupLayout_1_1.createParallelGroup(Alignment.LEADING)
+								.addGroup(groupLayout_1_1.createSequentialGroup()
+									.addGap(30)
+									.addComponent(box_1, GroupLayout.PREFERRED_SIZE, 30, GroupLayout.PREFERRED_SIZE)
+									.addContainerGap(140, Short.MAX_VALUE))
+						);
+						panel.setLayout(groupLayout_1_1);
+					}
+				}""");
+		ContainerInfo panel1 = (ContainerInfo) panel.getChildrenComponents().get(0);
+		ComponentInfo box = panel1.getChildrenComponents().get(0);
+		// do move
+		canvas.sideMode();
+		canvas.beginMove(box).target(panel1).in(60, 50).drag().endDrag();
+		assertEditor("""
+				import javax.swing.GroupLayout.Alignment;
+				public class Test extends JPanel {
+					public Test() {
+						setLayout(null);
+						JPanel panel = new JPanel();
+						panel.setBounds(50, 50, 200, 200);
+						add(panel);
+						Box box_1 = new Box();
+						GroupLayout groupLayout_1_1 = new GroupLayout(panel);
+						groupLayout_1_1.setHorizontalGroup(
+							groupLayout_1_1.createParallelGroup(Alignment.LEADING)
+								.addGroup(groupLayout_1_1.createSequentialGroup()
+									.addGap(60)
+									.addComponent(box_1, GroupLayout.PREFERRED_SIZE, 60, GroupLayout.PREFERRED_SIZE)
+									.addContainerGap(80, Short.MAX_VALUE))
+						);
+						groupLayout_1_1.setVerticalGroup(
+							groupLayout_1_1.createParallelGroup(Alignment.LEADING)
+								.addGroup(groupLayout_1_1.createSequentialGroup()
+									.addGap(50)
+									.addComponent(box_1, GroupLayout.PREFERRED_SIZE, 30, GroupLayout.PREFERRED_SIZE)
+									.addContainerGap(120, Short.MAX_VALUE))
+						);
+						panel.setLayout(groupLayout_1_1);
+					}
+				}""");
+	}
+
+	/**
+	 * Existing layout code is updated in place, so names in it keep their qualification.
+	 */
+	@Test
+	public void test_resize_updateInPlace() throws Exception {
+		prepareBox(60, 30);
+		ContainerInfo panel = openContainer("""
+				import javax.swing.GroupLayout.Alignment;
+				public class Test extends JPanel {
+					public Test() {
+						setLayout(null);
+						JPanel panel = new JPanel();
+						panel.setBounds(50, 50, 200, 200);
+						add(panel);
+						Box box_1 = new Box();
+						GroupLayout groupLayout_1_1 = new GroupLayout(panel);
+						groupLayout_1_1.setHorizontalGroup(
+							groupLayout_1_1.createParallelGroup(Alignment.LEADING)
+								.addGroup(groupLayout_1_1.createSequentialGroup()
+									.addGap(40)
+									.addComponent(box_1, GroupLayout.PREFERRED_SIZE, 60, GroupLayout.PREFERRED_SIZE)
+									.addContainerGap(100, Short.MAX_VALUE))
+						);
+						groupLayout_1_1.setVerticalGroup(
+							groupLayout_1_1.createParallelGroup(Alignment.LEADING)
+								.addGroup(groupLayout_1_1.createSequentialGroup()
+									.addGap(30)
+									.addComponent(box_1, GroupLayout.PREFERRED_SIZE, 30, GroupLayout.PREFERRED_SIZE)
+									.addContainerGap(140, Short.MAX_VALUE))
+						);
+						panel.setLayout(groupLayout_1_1);
+					}
+				}""");
+		ContainerInfo panel1 = (ContainerInfo) panel.getChildrenComponents().get(0);
+		ComponentInfo box = panel1.getChildrenComponents().get(0);
+		// do resize
+		canvas.beginResize(box, PositionConstants.EAST).dragOn(20, 0).endDrag();
+		assertEditor("""
+				import javax.swing.GroupLayout.Alignment;
+				public class Test extends JPanel {
+					public Test() {
+						setLayout(null);
+						JPanel panel = new JPanel();
+						panel.setBounds(50, 50, 200, 200);
+						add(panel);
+						Box box_1 = new Box();
+						GroupLayout groupLayout_1_1 = new GroupLayout(panel);
+						groupLayout_1_1.setHorizontalGroup(
+							groupLayout_1_1.createParallelGroup(Alignment.LEADING)
+								.addGroup(groupLayout_1_1.createSequentialGroup()
+									.addGap(40)
+									.addComponent(box_1, GroupLayout.PREFERRED_SIZE, 80, GroupLayout.PREFERRED_SIZE)
+									.addContainerGap(80, Short.MAX_VALUE))
+						);
+						groupLayout_1_1.setVerticalGroup(
+							groupLayout_1_1.createParallelGroup(Alignment.LEADING)
+								.addGroup(groupLayout_1_1.createSequentialGroup()
+									.addGap(30)
+									.addComponent(box_1, GroupLayout.PREFERRED_SIZE, 30, GroupLayout.PREFERRED_SIZE)
+									.addContainerGap(140, Short.MAX_VALUE))
+						);
+						panel.setLayout(groupLayout_1_1);
+					}
+				}""");
+	}
 }
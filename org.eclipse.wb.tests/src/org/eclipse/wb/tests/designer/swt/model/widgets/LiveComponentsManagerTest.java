@@ -20,6 +20,7 @@ import org.eclipse.wb.internal.core.model.clipboard.JavaInfoMemento;
 import org.eclipse.wb.internal.core.model.creation.factory.StaticFactoryCreationSupport;
 import org.eclipse.wb.internal.core.model.description.factory.FactoryMethodDescription;
 import org.eclipse.wb.internal.core.model.description.helpers.FactoryDescriptionHelper;
+import org.eclipse.wb.internal.core.model.util.live.ILiveCacheEntry;
 import org.eclipse.wb.internal.core.utils.ast.AstEditor;
 import org.eclipse.wb.internal.swt.model.layout.RowLayoutInfo;
 import org.eclipse.wb.internal.swt.model.widgets.CompositeInfo;
@@ -40,6 +41,8 @@ import org.eclipse.swt.graphics.Image;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 /**
  * Tests for {@link SwtLiveManager}, style access.
  *
@@ -155,6 +158,54 @@ public class LiveComponentsManagerTest extends RcpModelTest {
 		}
 	}
 
+	/**
+	 * Entry evicted from full cache keeps image, which may be still used by component which is not
+	 * added yet. It is disposed only after refresh.
+	 */
+	@Test
+	public void test_liveImage_evicted() throws Exception {
+		CompositeInfo shell = parseComposite("""
+				class Test extends Shell {
+					public Test() {
+						setLayout(new RowLayout());
+					}
+				}""");
+		shell.refresh();
+		ControlInfo button = BTestUtils.createButton();
+		Image image = button.getImage();
+		assertNotNull(image);
+		// fill caches with other entries, so entry of "button" is evicted
+		ILiveCacheEntry otherEntry = () -> {
+		};
+		Map<String, ILiveCacheEntry>[] caches = new SwtLiveManager(button) {
+			@SuppressWarnings("unchecked")
+			Map<String, ILiveCacheEntry>[] getCaches() {
+				return new Map[]{getStaticCache(), getEditorCache()};
+			}
+		}.getCaches();
+		try {
+			for (Map<String, ILiveCacheEntry> cache : caches) {
+				for (int i = 0; i < 1000; i++) {
+					cache.put("other_" + i, otherEntry);
+				}
+			}
+			// image is still valid
+			assertFalse(image.isDisposed());
+			// refresh, so image is disposed
+			shell.refresh();
+			assertTrue(image.isDisposed());
+			// new entry with valid image
+			Image newImage = button.getImage();
+			assertNotNull(newImage);
+			assertNotSame(image, newImage);
+			assertFalse(newImage.isDisposed());
+		} finally {
+			for (Map<String, ILiveCacheEntry> cache : caches) {
+				cache.keySet().removeIf(key -> key.startsWith("other_"));
+			}
+		}
+	}
+
 	@Test
 	public void test_liveImage_onComposite() throws Exception {
 		parseComposite("""
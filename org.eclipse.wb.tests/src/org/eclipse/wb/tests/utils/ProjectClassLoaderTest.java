@@ -15,6 +15,7 @@ package org.eclipse.wb.tests.utils;
 import org.eclipse.wb.internal.core.utils.jdt.core.ProjectUtils;
 import org.eclipse.wb.internal.core.utils.reflect.ProjectClassLoader;
 import org.eclipse.wb.internal.core.utils.reflect.ReflectionUtils;
+import org.eclipse.wb.internal.core.utils.reflect.SharedLibraryClassLoader;
 import org.eclipse.wb.internal.swing.model.component.ContainerInfo;
 import org.eclipse.wb.tests.designer.core.PdeProjectConversionUtils;
 import org.eclipse.wb.tests.designer.core.TestProject;
@@ -453,6 +454,70 @@ public class ProjectClassLoaderTest extends SwingModelTest {
 		}
 	}
 
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Shared libraries
+	//
+	////////////////////////////////////////////////////////////////////////////
+	/**
+	 * Classes from JAR files are loaded once for all {@link ProjectClassLoader}'s with same JARs,
+	 * classes from project are loaded by each {@link ProjectClassLoader}.
+	 */
+	@DisposeProjectAfter
+	@Test
+	public void test_createShared() throws Exception {
+		m_testProject.addBundleJars("org.eclipse.wb.tests", "/libs/swingx");
+		setFileContentSrc(
+				"test/MyClass.java",
+				getTestSource(
+						"public class MyClass {",
+						"}"));
+		waitForAutoBuild();
+		// prepare ClassLoader's
+		ProjectClassLoader classLoader_1 = ProjectClassLoader.createShared("test", null, m_javaProject);
+		ProjectClassLoader classLoader_2 = ProjectClassLoader.createShared("test", null, m_javaProject);
+		try {
+			Class<?> libraryClass = classLoader_1.loadClass("org.jdesktop.swingx.JXButton");
+			assertSame(libraryClass, classLoader_2.loadClass("org.jdesktop.swingx.JXButton"));
+			assertInstanceOf(SharedLibraryClassLoader.class, libraryClass.getClassLoader());
+			assertNotSame(
+					classLoader_1.loadClass("test.MyClass"),
+					classLoader_2.loadClass("test.MyClass"));
+		} finally {
+			classLoader_1.dispose();
+			classLoader_2.dispose();
+		}
+	}
+
+	/**
+	 * When JAR file is changed, new {@link SharedLibraryClassLoader} is used.
+	 */
+	@DisposeProjectAfter
+	@Test
+	public void test_createShared_jarChanged() throws Exception {
+		m_testProject.addBundleJars("org.eclipse.wb.tests", "/libs/swingx");
+		ProjectClassLoader classLoader_1 = ProjectClassLoader.createShared("test", null, m_javaProject);
+		ProjectClassLoader classLoader_2 = null;
+		try {
+			SharedLibraryClassLoader libraryClassLoader =
+					(SharedLibraryClassLoader) classLoader_1.getParent();
+			// touch JAR
+			File jarFile = new File(libraryClassLoader.getURLs()[0].toURI());
+			assertTrue(jarFile.setLastModified(jarFile.lastModified() + 10000));
+			// new JAR, new shared ClassLoader
+			classLoader_2 = ProjectClassLoader.createShared("test", null, m_javaProject);
+			assertNotSame(libraryClassLoader, classLoader_2.getParent());
+			assertNotSame(
+					classLoader_1.loadClass("org.jdesktop.swingx.JXButton"),
+					classLoader_2.loadClass("org.jdesktop.swingx.JXButton"));
+		} finally {
+			classLoader_1.dispose();
+			if (classLoader_2 != null) {
+				classLoader_2.dispose();
+			}
+		}
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// addSourceLocations()
@@ -49,6 +49,13 @@ public class PropertyTableUtils {
 		return getProperties(propertyTable).get(index).getProperty();
 	}
 
+	/**
+	 * @return the edit part for given {@link Property}, may be <code>null</code>.
+	 */
+	public static GraphicalEditPart getEditPart(PropertyTable propertyTable, Property property) {
+		return propertyTable.getEditPartForModel(getPropertyInfo(propertyTable, property));
+	}
+
 	/**
 	 * @return the location of state image (plus/minus) for given {@link Property}.
 	 */